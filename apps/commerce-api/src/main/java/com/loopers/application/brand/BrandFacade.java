@@ -1,18 +1,39 @@
 package com.loopers.application.brand;
 
 import com.loopers.application.brand.out.BrandInfo;
+import com.loopers.application.brand.out.TrendingBrandInfo;
 import com.loopers.domain.brand.Brand;
 import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.TrendingScore;
+import com.loopers.domain.product.vo.TrendingWindow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @RequiredArgsConstructor
 @Component
 public class BrandFacade {
     private final BrandService brandService;
+    private final ProductService productService;
 
     public BrandInfo get(Long brandId) {
         Brand brand = brandService.get(brandId);
         return BrandInfo.from(brand);
     }
+
+    // 기간 내 좋아요 수 상위 브랜드 (집계 순서 유지, 브랜드는 IN 조회 1회)
+    public List<TrendingBrandInfo> getTrendingBrands(TrendingWindow window, int size) {
+        List<TrendingScore> scores = productService.getTrendingBrands(window, size);
+        Map<Long, Brand> brandsById = brandService.getAll(scores.stream().map(TrendingScore::id).toList()).stream()
+                .collect(Collectors.toMap(Brand::getId, Function.identity()));
+        return scores.stream()
+                .filter(score -> brandsById.containsKey(score.id()))
+                .map(score -> TrendingBrandInfo.from(brandsById.get(score.id()), score.score()))
+                .toList();
+    }
 }
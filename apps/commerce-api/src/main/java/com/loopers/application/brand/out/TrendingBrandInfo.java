@@ -0,0 +1,17 @@
+package com.loopers.application.brand.out;
+
+import com.loopers.domain.brand.Brand;
+
+public record TrendingBrandInfo(
+        Long id,
+        String name,
+        long likeCount
+) {
+    public static TrendingBrandInfo from(Brand brand, long likeCount) {
+        return new TrendingBrandInfo(
+                brand.getId(),
+                brand.getName(),
+                likeCount
+        );
+    }
+}
@@ -2,8 +2,11 @@ package com.loopers.application.dummy;
 
 import com.loopers.domain.BaseEntity;
 import com.loopers.domain.brand.Brand;
-import com.loopers.domain.like.Like;
+import com.loopers.domain.like.LikeStateRepository;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRankingRepository;
+import com.loopers.domain.product.ProductSearchRepository;
+import com.loopers.domain.product.ProductTrendingRepository;
 import com.loopers.domain.product.vo.Money;
 import com.loopers.domain.product.vo.SaleStatus;
 import com.loopers.domain.user.vo.BirthDate;
@@ -11,33 +14,87 @@ import com.loopers.domain.user.User;
 import com.loopers.domain.user.vo.Email;
 import com.loopers.domain.user.vo.Gender;
 import com.loopers.domain.user.vo.UserId;
-import com.mysema.commons.lang.Pair;
+import com.loopers.infrastructure.like.LikeOutboxRelay;
+import com.loopers.infrastructure.product.ProductCountProvider;
+import com.loopers.infrastructure.product.ProductListViewSynchronizer;
 import jakarta.persistence.EntityManagerFactory;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.hibernate.SessionFactory;
 import org.hibernate.StatelessSession;
 import org.hibernate.Transaction;
 import org.instancio.Instancio;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.instancio.Select.field;
 
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class DummyDataInsertService {
+    private static final long LIKE_USER_COUNT = 99;
+    private static final int LIKE_BATCH_SIZE = 5000;
+    private static final long LIKE_CREATED_AT_RANGE_SECONDS = Duration.ofDays(30).toSeconds();
+    private static final String INSERT_LIKE = """
+            INSERT IGNORE INTO `like` (ref_user_id, ref_product_id, version, created_at, updated_at)
+            VALUES (?, ?, 0, ?, ?)
+            """;
+    private static final String RECOMPUTE_LIKE_COUNT = """
+            UPDATE product p
+            LEFT JOIN (SELECT ref_product_id, COUNT(*) AS cnt FROM `like` GROUP BY ref_product_id) l
+                ON l.ref_product_id = p.id
+            SET p.like_count = COALESCE(l.cnt, 0)
+            """;
 
     private final EntityManagerFactory emf;
     private final CacheManager cacheManager;
+    private final ProductCountProvider productCountProvider;
+    private final ProductRankingRepository productRankingRepository;
+    private final ProductListViewSynchronizer productListViewSynchronizer;
+    private final ProductSearchRepository productSearchRepository;
+    private final ProductTrendingRepository productTrendingRepository;
+    private final LikeStateRepository likeStateRepository;
+    private final LikeOutboxRelay likeOutboxRelay;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate likeInsertTransaction;
+
+    public DummyDataInsertService(
+            EntityManagerFactory emf,
+            CacheManager cacheManager,
+            ProductCountProvider productCountProvider,
+            ProductRankingRepository productRankingRepository,
+            ProductListViewSynchronizer productListViewSynchronizer,
+            ProductSearchRepository productSearchRepository,
+            ProductTrendingRepository productTrendingRepository,
+            LikeStateRepository likeStateRepository,
+            LikeOutboxRelay likeOutboxRelay,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.emf = emf;
+        this.cacheManager = cacheManager;
+        this.productCountProvider = productCountProvider;
+        this.productRankingRepository = productRankingRepository;
+        this.productListViewSynchronizer = productListViewSynchronizer;
+        this.productSearchRepository = productSearchRepository;
+        this.productTrendingRepository = productTrendingRepository;
+        this.likeStateRepository = likeStateRepository;
+        this.likeOutboxRelay = likeOutboxRelay;
+        this.jdbcTemplate = jdbcTemplate;
+        this.likeInsertTransaction = new TransactionTemplate(transactionManager);
+    }
 
     // 더미데이터 생성 후 캐시 전체 삭제
     @CacheEvict(value = {"productDetail", "productList"}, allEntries = true)
@@ -70,6 +127,8 @@ public class DummyDataInsertService {
 
         tx.commit();
         session.close();
+        // 브랜드명이 비어 있던 상품 목록 행 보정
+        productListViewSynchronizer.rebuildAll();
         clearAllCaches();
     }
 
@@ -88,11 +147,15 @@ public class DummyDataInsertService {
             long randomDays = ThreadLocalRandom.current().nextLong(0, daysBetween + 1);
             LocalDateTime randomCreatedAt = threeYearsAgo.plusDays(randomDays);
             
+            BigDecimal originalPrice = BigDecimal.valueOf(ThreadLocalRandom.current().nextLong(25000, 30000));
+            BigDecimal sellingPrice = BigDecimal.valueOf(ThreadLocalRandom.current().nextLong(10000, 24000));
+
             Product product = Instancio.of(Product.class)
                     .supply(field("name"), () -> "상품-" + finalI)
                     .supply(field("description"), () -> "상품설명-" + finalI)
-                    .supply(field("originalPrice"), () -> Money.from(BigDecimal.valueOf(ThreadLocalRandom.current().nextLong(25000, 30000))))
-                    .supply(field("sellingPrice"), () -> Money.from(BigDecimal.valueOf(ThreadLocalRandom.current().nextLong(10000, 24000))))
+                    .supply(field("originalPrice"), () -> Money.from(originalPrice))
+                    .supply(field("sellingPrice"), () -> Money.from(sellingPrice))
+                    .set(field("discountRate"), Product.calculateDiscountRate(originalPrice, sellingPrice))
                     .supply(field("saleStatus"), () -> SaleStatus.ON_SALE)
                     .supply(field("refBrandId"), () -> ThreadLocalRandom.current().nextLong(1, 20))
                     // BaseEntity 필드들 - createdAt은 랜덤, updatedAt은 createdAt 이후
@@ -110,51 +173,71 @@ public class DummyDataInsertService {
 
         tx.commit();
         session.close();
+        // StatelessSession은 엔티티 이벤트를 거치지 않으므로 상품 수를 DB 기준으로 다시 계산
+        productCountProvider.invalidate();
+        productListViewSynchronizer.rebuildAll();
+        productRankingRepository.rebuild();
+        productSearchRepository.rebuild();
         clearAllCaches();
     }
 
+    // 조합을 미리 만들지 않고 순서대로 뽑아 JDBC 배치로 적재 (리플렉션 없이 행 값만 바인딩)
     public void bulkInsertLikes(int count) {
-        SessionFactory sessionFactory = emf.unwrap(SessionFactory.class);
-        StatelessSession session = sessionFactory.openStatelessSession();
-        Transaction tx = session.beginTransaction();
-
-        // 모든 가능한 조합 생성
-        List<Pair<Long, Long>> allCombinations = new ArrayList<>();
-        for (long userId = 1; userId < 100; userId++) {
-            for (long productId = 1; productId < 100000; productId++) {
-                allCombinations.add(Pair.of(userId, productId));
-            }
+        // 삭제 등으로 id가 비어 있을 수 있으므로 순번(1부터)을 실제 상품 id로 바꿔서 사용
+        List<Long> productIds = jdbcTemplate.queryForList("SELECT id FROM product ORDER BY id", Long.class);
+        if (productIds.isEmpty()) {
+            return;
         }
 
-        // 셔플하여 랜덤 순서로 만들기
-        Collections.shuffle(allCombinations);
-
-        // 필요한 만큼만 가져오기
-        int actualCount = Math.min(count, allCombinations.size());
-
-        for (int i = 0; i < actualCount; i++) {
-            Pair<Long, Long> combination = allCombinations.get(i);
+        long before = countLikes();
+        LikePairSequence pairs = new LikePairSequence(LIKE_USER_COUNT, productIds.size(), count, ThreadLocalRandom.current());
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batch = new ArrayList<>(LIKE_BATCH_SIZE);
+        long attempted = 0;
 
-            Like like = Instancio.of(Like.class)
-                    .set(field("refUserId"), combination.getFirst())
-                    .set(field("refProductId"), combination.getSecond())
-                    .set(field(BaseEntity.class, "createdAt"), LocalDateTime.now())
-                    .set(field(BaseEntity.class, "updatedAt"), LocalDateTime.now())
-                    .set(field(BaseEntity.class, "deletedAt"), (LocalDateTime) null)
-                    .create();
-
-            session.insert(like);
-
-            if (i % 1000 == 0) {
-                System.out.println("Inserted Like: " + i);
+        while (pairs.hasNext()) {
+            LikePairSequence.LikePair pair = pairs.next();
+            // 기간별 인기 집계가 의미 있도록 최근 30일에 흩어서 생성
+            Timestamp createdAt = Timestamp.valueOf(now.minusSeconds(ThreadLocalRandom.current().nextLong(LIKE_CREATED_AT_RANGE_SECONDS)));
+            Long productId = productIds.get((int) (pair.productId() - 1));
+            batch.add(new Object[]{pair.userId(), productId, createdAt, createdAt});
+            if (batch.size() == LIKE_BATCH_SIZE) {
+                insertLikes(batch);
+                attempted += batch.size();
+                batch.clear();
+                log.info("Processed Like: {}", attempted);
             }
         }
+        if (!batch.isEmpty()) {
+            insertLikes(batch);
+            attempted += batch.size();
+        }
 
-        tx.commit();
-        session.close();
+        // 기존 좋아요와 겹쳐 무시된 행까지 반영되도록 like 테이블 기준으로 다시 계산
+        jdbcTemplate.update(RECOMPUTE_LIKE_COUNT);
+        log.info("Inserted Like: {} / {}, like_count 재계산 완료", countLikes() - before, attempted);
+
+        // Redis의 사용자별 좋아요 set과 좋아요 수는 적재 전 상태이므로 지워서 DB 기준으로 다시 채우게 함
+        // 지우기 전에 outbox에 남은 좋아요를 먼저 반영 (지운 뒤 DB에서 다시 채우면 반영 전 좋아요가 빠짐)
+        likeOutboxRelay.drain();
+        likeStateRepository.evictAll();
+        productListViewSynchronizer.rebuildAll();
+        productRankingRepository.rebuild();
+        productTrendingRepository.rebuild();
+        productSearchRepository.rebuild();
         clearAllCaches();
     }
 
+    // 배치 단위로 커밋 (rewriteBatchedStatements로 다중 행 INSERT 1회)
+    // 다중 행으로 합쳐지면 행별 결과 대신 SUCCESS_NO_INFO가 반환되어 무시된 중복을 구분할 수 없으므로 적재 수는 행 수 차이로 셈
+    private void insertLikes(List<Object[]> batch) {
+        likeInsertTransaction.execute(status -> jdbcTemplate.batchUpdate(INSERT_LIKE, batch));
+    }
+
+    private long countLikes() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM `like`", Long.class);
+    }
+
     public void bulkInsertUsers(int count) {
         SessionFactory sessionFactory = emf.unwrap(SessionFactory.class);
         StatelessSession session = sessionFactory.openStatelessSession();
@@ -0,0 +1,71 @@
+package com.loopers.application.dummy;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.random.RandomGenerator;
+
+/**
+ * (사용자, 상품) 전체 조합을 만들지 않고 서로 다른 조합을 순서대로 뽑는다.
+ * 조합 공간 N에서 N과 서로소인 보폭으로 (시작점 + i * 보폭) mod N 을 따라가면 N번 안에 같은 칸을 다시 밟지 않는다.
+ * 보폭은 N * 황금비 근처에서 골라 연속한 조합이 사용자/상품 전반에 고르게 흩어지도록 한다.
+ */
+public class LikePairSequence implements Iterator<LikePairSequence.LikePair> {
+    private static final double GOLDEN_RATIO_CONJUGATE = 0.6180339887498949;
+
+    private final long productCount;
+    private final long total;
+    private final long stride;
+    private final long limit;
+    private long current;
+    private long emitted;
+
+    public LikePairSequence(long userCount, long productCount, long count, RandomGenerator random) {
+        if (userCount < 1 || productCount < 1) {
+            throw new IllegalArgumentException("사용자 수와 상품 수는 1 이상이어야 합니다.");
+        }
+        this.productCount = productCount;
+        this.total = Math.multiplyExact(userCount, productCount);
+        this.limit = Math.min(count, total);
+        this.stride = coprimeStride(total, random);
+        this.current = random.nextLong(total);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return emitted < limit;
+    }
+
+    @Override
+    public LikePair next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        LikePair pair = new LikePair(current / productCount + 1, current % productCount + 1);
+        current = (current + stride) % total;   // current, stride < total 이므로 곱셈 없이 overflow 없음
+        emitted++;
+        return pair;
+    }
+
+    private static long coprimeStride(long total, RandomGenerator random) {
+        if (total == 1) {
+            return 1;
+        }
+        long candidate = Math.max(1, (long) (total * GOLDEN_RATIO_CONJUGATE) + random.nextLong(Math.max(1, total / 100)));
+        while (gcd(candidate % total, total) != 1) {
+            candidate++;
+        }
+        return candidate % total;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    public record LikePair(long userId, long productId) {
+    }
+}
@@ -1,8 +1,10 @@
 package com.loopers.application.like;
 
 import com.loopers.application.like.in.LikeActionCommand;
+import com.loopers.application.like.out.LikedProductsCursorResult;
 import com.loopers.application.like.out.LikedProductsResult;
 import com.loopers.domain.like.LikeService;
+import com.loopers.domain.like.event.LikeChangedEvent;
 import com.loopers.domain.like.dto.LikedProductDto;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductService;
@@ -10,18 +12,33 @@ import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+
 @RequiredArgsConstructor
 @Component
 public class LikeFacade {
     private final LikeService likeService;
     private final ProductService productService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public boolean create(LikeActionCommand command){
+        if (likeService.isStateStoreEnabled()) {
+            // 상품은 캐시에서 조회, 좋아요 상태 변경은 Redis 1회
+            Product product = productService.getDetail(command.refProductId());
+            boolean changed = likeService.like(command.refUserId(), product.getId(), productService.getLikeCount(product));
+            if (changed) {
+                productService.increaseLikeCount(product);
+                publishLikeChanged(command.refUserId(), product, 1L);
+            }
+            return changed;
+        }
+
         if(!productService.existsById(command.refProductId())){
             throw new CoreException(ErrorType.NOT_FOUND, "상품 ID가 존재하지 않습니다.");
         }
@@ -29,12 +46,23 @@ public class LikeFacade {
         if(result){
             Product product = productService.getDetail(command.refProductId());
             productService.increaseLikeCount(product);
+            publishLikeChanged(command.refUserId(), product, 1L);
         }
         return result;
     }
 
     @Transactional
     public boolean delete(LikeActionCommand command) {
+        if (likeService.isStateStoreEnabled()) {
+            Product product = productService.getDetail(command.refProductId());
+            boolean changed = likeService.unlike(command.refUserId(), product.getId(), productService.getLikeCount(product));
+            if (changed) {
+                productService.decreaseLikeCount(product);
+                publishLikeChanged(command.refUserId(), product, -1L);
+            }
+            return changed;
+        }
+
         if(!productService.existsById(command.refProductId())){
             throw new CoreException(ErrorType.NOT_FOUND, "상품 ID가 존재하지 않습니다.");
         }
@@ -42,12 +70,22 @@ public class LikeFacade {
         if(result){
             Product product = productService.getDetail(command.refProductId());
             productService.decreaseLikeCount(product);
+            publishLikeChanged(command.refUserId(), product, -1L);
         }
         return result;
     }
 
+    // 실제로 상태가 바뀐 경우에만 발행 (중복 좋아요/취소는 제외)
+    private void publishLikeChanged(Long userId, Product product, long delta) {
+        eventPublisher.publishEvent(new LikeChangedEvent(userId, product.getId(), product.getRefBrandId(), delta, LocalDateTime.now()));
+    }
+
     public Page<LikedProductsResult> getLikedProducts(Long userId, Pageable pageable) {
         Page<LikedProductDto> likedProducts = likeService.getLikedProducts(userId, pageable);
         return likedProducts.map(LikedProductsResult::from);
     }
+
+    public LikedProductsCursorResult getLikedProductsByCursor(Long userId, String cursor, int size) {
+        return LikedProductsCursorResult.from(likeService.getLikedProductsByCursor(userId, cursor, size));
+    }
 }
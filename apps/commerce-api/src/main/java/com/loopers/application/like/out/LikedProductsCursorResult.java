@@ -0,0 +1,21 @@
+package com.loopers.application.like.out;
+
+import com.loopers.domain.like.LikedProductCursorPage;
+
+import java.util.List;
+
+public record LikedProductsCursorResult(
+        List<LikedProductsResult> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static LikedProductsCursorResult from(LikedProductCursorPage page) {
+        return new LikedProductsCursorResult(
+                page.content().stream().map(LikedProductsResult::from).toList(),
+                page.size(),
+                page.nextCursor(),
+                page.hasNext()
+        );
+    }
+}
@@ -11,7 +11,8 @@ public record LikedProductsResult(
         BigDecimal sellingPrice,
         String saleStatus,
         Long likeId,
-        Boolean liked
+        Boolean liked,
+        Long likeCount
 ) {
     public static LikedProductsResult from(LikedProductDto likedProductDto) {
         return new LikedProductsResult(
@@ -21,7 +22,8 @@ public record LikedProductsResult(
                 likedProductDto.sellingPrice(),
                 likedProductDto.saleStatus(),
                 likedProductDto.likeId(),
-                likedProductDto.liked()
+                likedProductDto.liked(),
+                likedProductDto.totalLikeCount()
         );
     }
 }
@@ -5,31 +5,32 @@ import com.loopers.application.order.in.OrderItemCriteria;
 import com.loopers.application.order.out.OrderCreateResult;
 import com.loopers.application.order.out.OrderDetailResult;
 import com.loopers.application.order.out.OrderResult;
-import com.loopers.application.payment.PaymentStatusService;
 import com.loopers.domain.coupon.Coupon;
 import com.loopers.domain.coupon.CouponService;
 import com.loopers.domain.order.*;
 import com.loopers.domain.payment.Payment;
 import com.loopers.domain.payment.PaymentMethod;
 import com.loopers.domain.payment.PaymentService;
-import com.loopers.domain.payment.PaymentStatus;
 import com.loopers.domain.point.Point;
 import com.loopers.domain.point.PointService;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductService;
-import com.loopers.domain.stock.Stock;
+import com.loopers.domain.stock.StockLockCoordinator;
 import com.loopers.domain.stock.StockService;
 import com.loopers.domain.user.User;
 import com.loopers.domain.user.UserService;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Component
@@ -43,30 +44,53 @@ public class OrderFacade {
     private final OrderService orderService;
     private final CouponService couponService;
     private final PaymentService paymentService;
-    private final PaymentStatusService paymentStatusService;
+    private final OrderPaymentProcessor orderPaymentProcessor;
 
     @Transactional
     public OrderCreateResult placeOrder(OrderCreateCommand command) {
 
+        // 같은 orderSeq 재요청은 재고/쿠폰/포인트 처리 없이 처음 접수 결과를 반환
+        Optional<OrderCreateResult> placed = findPlacedOrder(command);
+        if (placed.isPresent()) {
+            return placed.get();
+        }
+        if (!orderService.acquireSubmission(command.orderSeq())) {
+            // 다른 요청이 같은 주문을 처리 중 (그 사이 완료됐으면 그 결과를 반환)
+            return findPlacedOrder(command)
+                    .orElseThrow(() -> new CoreException(ErrorType.CONFLICT, "같은 주문이 처리 중입니다. 잠시 후 다시 시도해주세요."));
+        }
+
+        // 품절 표시된 상품은 DB/Redis 조회 없이 바로 거절
+        stockService.checkNotSoldOut(command.items().stream().map(OrderItemCriteria::productId).toList());
+
         // 사용자 정보
         User user = userService.get(command.userId());
+
+        // 주문 상품 일괄 조회 (상품 수와 관계없이 IN 조회 1회), 없는 상품은 재고 처리 전에 거절
+        Map<Long, Product> products = productService.getAllByIds(
+                command.items().stream().map(OrderItemCriteria::productId).toList());
         Order order = null;
         Long totalPrice = 0L;
         Long usedPoint = command.usedPoint();
 
         try {
             // 재고처리
-            for (OrderItemCriteria item : command.items()) {
-                Stock stock = stockService.getByRefProductIdWithLock(item.productId());
-                stockService.updateQuantity(stock, item.quantity());
-                System.out.println("stock 확인: " + stock.getQuantity());
+            // 같은 상품 줄을 합치고 상품 ID 순으로 정렬해 요청마다 같은 순서로 잠금
+            Map<Long, Integer> quantities = StockLockCoordinator.mergeQuantities(
+                    command.items(), OrderItemCriteria::productId, OrderItemCriteria::quantity);
+            if (stockService.isReservationEnabled()) {
+                // Redis에서 전체 상품을 한 번에 예약, 커밋 시 확정 / 롤백 시 해제 (stock 테이블은 비동기 반영)
+                stockService.reserve(command.orderSeq(), quantities);
+            } else {
+                // 상품별 잠금 조회 없이 조건부 UPDATE batch 한 번으로 차감
+                stockService.decreaseAll(quantities);
             }
 
             List<OrderItem> orderItems = new ArrayList<>();
 
-            // 주문 상품 존재 확인 및 주문아이템 추가
+            // 주문아이템 추가
             for (OrderItemCriteria item : command.items()) {
-                Product product = productService.getDetail(item.productId());
+                Product product = products.get(item.productId());
                 System.out.println("product 확인: " + product.getName());
                 totalPrice += product.getSellingPrice().getValue().longValue() * item.quantity();
                 System.out.println("product 할인가격: " + product.getSellingPrice().getValue().longValue());
@@ -121,69 +145,9 @@ public class OrderFacade {
             
             // CARD 결제 방법이고 금액이 0보다 클 때만 PG사 연결
             if (paymentMethod.requiresPgConnection() && finalAmount > 0) {
-                // PG사 결제 요청
-                try {
-                    var pgResponse = paymentService.requestPgPayment(
-                            payment, 
-                            command.cardType(), 
-                            command.cardNo()
-                    );
-                    
-                    if (pgResponse.isSuccess()) {
-                        // PG 요청 성공 - transactionKey 저장
-                        paymentService.updateTransactionKey(payment.getPaymentSeq(), pgResponse.getTransactionKey());
-                        System.out.println("PG 요청 성공, transactionKey: " + pgResponse.getTransactionKey());
-                        
-                        // 주문 상태는 PENDING으로 유지 (실제 결제 완료는 콜백에서 처리)
-                        // order 상태는 이미 PENDING이므로 별도 처리 불필요
-                        
-                    } else {
-                        // PG 요청 실패 - errorCode에 따라 다르게 처리
-                        String errorCode = pgResponse.meta().errorCode();
-                        String errorMessage = pgResponse.getErrorMessage();
-                        
-                        paymentService.failPayment(payment.getPaymentSeq(), errorMessage);
-                        
-                        if ("Bad Request".equals(errorCode)) {
-                            // 클라이언트 요청 오류 (400번대)
-                            throw new CoreException(ErrorType.BAD_REQUEST, errorMessage);
-                        } else if ("Internal Server Error".equals(errorCode)) {
-                            // PG사 서버 오류 (500번대) - 재시도 가능한 오류로 처리
-                            throw new CoreException(ErrorType.INTERNAL_ERROR, errorMessage);
-                        } else if ("Circuit Breaker Open".equals(errorCode)) {
-                            // Circuit Breaker OPEN 상태 - 주문은 성공, 결제는 대기 상태로 처리
-                            System.out.println("PG Circuit Breaker OPEN - 주문 성공 처리, 결제 대기: " + payment.getPaymentSeq());
-                            // Payment 상태를 TIMEOUT_PENDING으로 변경하여 나중에 상태 확인
-                            payment.updateStatus(PaymentStatus.TIMEOUT_PENDING);
-                            paymentService.save(payment);
-                            
-                            // 비동기로 결제 상태 확인 시작 (3초 간격으로 3번 재시도)
-                            startAsyncPaymentStatusCheck(payment);
-                            
-                            System.out.println("Circuit Breaker OPEN - 주문 성공, 결제 확인 중");
-                        } else if ("Timeout".equals(errorCode)) {
-                            // 타임아웃 - Payment 상태를 TIMEOUT_PENDING으로 변경
-                            System.out.println("PG 요청 타임아웃 - 결제 확인 필요: " + payment.getPaymentSeq());
-                            payment.updateStatus(PaymentStatus.TIMEOUT_PENDING);
-                            paymentService.save(payment);
-                            
-                            // 비동기로 결제 상태 확인 시작 (3초 간격으로 3번 재시도)
-                            startAsyncPaymentStatusCheck(payment);
-                            
-                            System.out.println("PG 타임아웃 - 주문 성공, 결제 확인 중");
-                        } else {
-                            // 기타 오류
-                            throw new CoreException(ErrorType.BAD_REQUEST, "결제 요청에 실패했습니다: " + errorMessage);
-                        }
-                    }
-                } catch (CoreException e) {
-                    // CoreException은 그대로 재전파
-                    throw e;
-                } catch (Exception e) {
-                    // 네트워크 오류 등 예상치 못한 예외
-                    paymentService.failPayment(payment.getPaymentSeq(), e.getMessage());
-                    throw new CoreException(ErrorType.INTERNAL_ERROR, "결제 처리 중 시스템 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
-                }
+                // PG 요청은 주문이 커밋된 뒤 비동기로 처리 (PG 응답을 기다리는 동안 커넥션/잠금을 잡지 않음)
+                // 주문은 PENDING으로 응답하고 결제 결과는 콜백/상태 확인으로 반영
+                requestPgPaymentAfterCommit(payment.getPaymentSeq(), command.cardType(), command.cardNo());
             } else {
                 // CARD가 아니거나 금액이 0원인 경우 바로 주문 완료
                 order.completePayment();
@@ -201,6 +165,7 @@ public class OrderFacade {
         OrderCreateResult result = null;
         if(order != null){
             result = OrderCreateResult.from(order, totalPrice);
+            orderService.saveReceiptOnCommit(order);
             externalOrderSender.sendOrder(order);
         }
         return result;
@@ -216,17 +181,25 @@ public class OrderFacade {
         return OrderDetailResult.from(order);
     }
 
-    /**
-     * 비동기로 결제 상태 확인 시작
-     * @Retry로 3초 간격으로 3번 재시도 후 최종 실패 시 취소 처리
-     */
-    @Async
-    public void startAsyncPaymentStatusCheck(Payment payment) {
-        try {
-            System.out.println("비동기 결제 상태 확인 시작: " + payment.getPaymentSeq());
-            paymentStatusService.checkAndRecoverPaymentStatus(payment);
-        } catch (Exception e) {
-            System.out.println("비동기 결제 상태 확인 실패: " + payment.getPaymentSeq() + ", " + e.getMessage());
+    private Optional<OrderCreateResult> findPlacedOrder(OrderCreateCommand command) {
+        return orderService.findReceipt(command.orderSeq()).map(receipt -> {
+            if (!receipt.refUserId().equals(command.userId())) {
+                throw new CoreException(ErrorType.CONFLICT, "이미 사용된 주문 번호입니다.");
+            }
+            return OrderCreateResult.from(receipt);
+        });
+    }
+
+    private void requestPgPaymentAfterCommit(String paymentSeq, String cardType, String cardNo) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            orderPaymentProcessor.requestPaymentAsync(paymentSeq, cardType, cardNo);
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                orderPaymentProcessor.requestPaymentAsync(paymentSeq, cardType, cardNo);
+            }
+        });
     }
 }
@@ -0,0 +1,75 @@
+package com.loopers.application.order;
+
+import com.loopers.application.payment.PaymentStatusService;
+import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentService;
+import com.loopers.domain.payment.PaymentStatus;
+import com.loopers.domain.payment.dto.PgPaymentResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문이 커밋된 뒤 PG 결제를 요청하는 단계.
+ * 주문 트랜잭션 밖에서 실행되므로 PG 응답(재시도 포함 수 초)을 기다리는 동안 DB 커넥션과 재고/포인트 잠금을 잡지 않는다.
+ * 요청이 거절되면 결제 실패 처리 후 주문을 취소하고, 타임아웃/서킷 오픈이면 결제 상태 확인으로 넘긴다.
+ * 요청이 받아들여진 결제의 최종 결과는 기존 콜백/상태 확인 경로에서 반영된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class OrderPaymentProcessor {
+
+    private final PaymentService paymentService;
+    private final PaymentStatusService paymentStatusService;
+    private final OrderRecoveryService orderRecoveryService;
+
+    @Async
+    public void requestPaymentAsync(String paymentSeq, String cardType, String cardNo) {
+        try {
+            requestPayment(paymentSeq, cardType, cardNo);
+        } catch (Exception e) {
+            log.warn("PG 결제 요청 처리 실패 - paymentSeq: {}", paymentSeq, e);
+        }
+    }
+
+    public void requestPayment(String paymentSeq, String cardType, String cardNo) {
+        Payment payment = paymentService.getPayment(paymentSeq);
+
+        PgPaymentResponse pgResponse;
+        try {
+            pgResponse = paymentService.requestPgPayment(payment, cardType, cardNo);
+        } catch (Exception e) {
+            // 네트워크 오류 등 예상치 못한 예외
+            failAndCancel(payment, e.getMessage());
+            return;
+        }
+
+        if (pgResponse.isSuccess()) {
+            // PG 요청 성공 - transactionKey 저장, 주문은 콜백까지 PENDING 유지
+            paymentService.updateTransactionKey(paymentSeq, pgResponse.getTransactionKey());
+            log.info("PG 요청 성공, transactionKey: {}", pgResponse.getTransactionKey());
+            return;
+        }
+
+        String errorCode = pgResponse.meta().errorCode();
+        if ("Circuit Breaker Open".equals(errorCode) || "Timeout".equals(errorCode)) {
+            // 결제 여부를 알 수 없으므로 상태 확인 (3초 간격으로 3번 재시도 후 최종 실패 시 복구)
+            log.warn("PG {} - 결제 확인 필요: {}", errorCode, paymentSeq);
+            payment.updateStatus(PaymentStatus.TIMEOUT_PENDING);
+            paymentService.save(payment);
+            paymentStatusService.checkAndRecoverPaymentStatus(payment);
+            return;
+        }
+
+        // Bad Request, Internal Server Error 등 PG가 거절한 요청
+        failAndCancel(payment, pgResponse.getErrorMessage());
+    }
+
+    private void failAndCancel(Payment payment, String reason) {
+        paymentService.failPayment(payment.getPaymentSeq(), reason);
+        orderRecoveryService.cancelForPaymentFailure(payment);
+        log.warn("PG 요청 실패로 주문 취소 - paymentSeq: {}, reason: {}", payment.getPaymentSeq(), reason);
+    }
+}
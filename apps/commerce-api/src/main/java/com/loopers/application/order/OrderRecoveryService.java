@@ -9,12 +9,19 @@ import com.loopers.domain.payment.Payment;
 import com.loopers.domain.point.Point;
 import com.loopers.domain.point.PointRepository;
 import com.loopers.domain.stock.Stock;
+import com.loopers.domain.stock.StockAvailabilityCache;
+import com.loopers.domain.stock.StockLockCoordinator;
 import com.loopers.domain.stock.StockRepository;
+import com.loopers.domain.stock.StockReservationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -24,6 +31,9 @@ public class OrderRecoveryService {
 
     private final OrderRepository orderRepository;
     private final StockRepository stockRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final StockLockCoordinator stockLockCoordinator;
+    private final StockAvailabilityCache stockAvailabilityCache;
     private final PointRepository pointRepository;
     private final CouponRepository couponRepository;
 
@@ -52,38 +62,78 @@ public class OrderRecoveryService {
         }
     }
 
+    /**
+     * PG 요청이 거절된 주문 취소 (재고, 포인트, 쿠폰 복구 후 주문 상태를 CANCELED로 변경)
+     */
+    @Transactional
+    public void cancelForPaymentFailure(Payment payment) {
+        Order order = orderRepository.findById(payment.getRefOrderId())
+                .orElseThrow(() -> new IllegalArgumentException("주문 정보를 찾을 수 없습니다: " + payment.getRefOrderId()));
+        handlePaymentFailure(payment, order);
+        order.cancel();
+        orderRepository.save(order);
+    }
+
     /**
      * 재고 복구
      */
     private void recoverStock(Order order) {
         System.out.println("재고 복구 시작 - orderId: " + order.getId());
+
+        if (stockReservationRepository.isEnabled()) {
+            // 예약 해제 - Redis 가용 재고를 되돌리고 stock 테이블은 outbox로 반영 (이미 해제된 예약은 무시)
+            // 해제된 상품은 품절 표시도 함께 해제됨
+            releaseReservationAfterCommit(order.getOrderSeq());
+            return;
+        }
         
-        for (OrderItem orderItem : order.getOrderItems()) {
-            try {
-                Optional<Stock> stockOpt = stockRepository.findByRefProductIdWithLock(orderItem.getProductId());
-                
-                if (stockOpt.isPresent()) {
-                    Stock stock = stockOpt.get();
-                    
-                    // 재고 원복 (차감했던 수량만큼 다시 추가)
-                    int currentQuantity = stock.getQuantity();
-                    int recoveryQuantity = orderItem.getQuantity();
-                    
-                    stock.updateQuantity(currentQuantity , recoveryQuantity);
-                    stockRepository.save(stock);
-                    
-                    System.out.println("재고 복구 완료 - productId: " + orderItem.getProductId() +
-                                     ", 복구수량: " + recoveryQuantity + 
-                                     ", 현재재고: " + stock.getQuantity());
-                } else {
-                    System.out.println("재고 정보를 찾을 수 없음 - productId: " + orderItem.getProductId());
+        // 상품 ID 순으로 한 번에 잠가 동시에 복구되는 주문끼리 교착되지 않도록 함
+        Map<Long, Integer> recoveries = StockLockCoordinator.mergeQuantities(
+                order.getOrderItems(), OrderItem::getProductId, OrderItem::getQuantity);
+        try {
+            Map<Long, Stock> stocks = stockLockCoordinator.lockAll(recoveries.keySet());
+            recoveries.forEach((productId, recoveryQuantity) -> {
+                Stock stock = stocks.get(productId);
+                if (stock == null) {
+                    System.out.println("재고 정보를 찾을 수 없음 - productId: " + productId);
+                    return;
                 }
-                
-            } catch (Exception e) {
-                System.out.println("재고 복구 실패 - productId: " + orderItem.getProductId() +
-                                 ", error: " + e.getMessage());
+
+                // 재고 원복 (차감했던 수량만큼 다시 추가)
+                stock.increaseQuantity(recoveryQuantity);
+                stockRepository.save(stock);
+                stockAvailabilityCache.markAvailable(productId);
+
+                System.out.println("재고 복구 완료 - productId: " + productId +
+                                 ", 복구수량: " + recoveryQuantity +
+                                 ", 현재재고: " + stock.getQuantity());
+            });
+        } catch (Exception e) {
+            System.out.println("재고 복구 실패 - orderId: " + order.getId() +
+                             ", error: " + e.getMessage());
+        }
+    }
+
+    // Redis 재고는 롤백되지 않으므로 포인트/쿠폰 복구와 주문 취소가 커밋된 뒤에만 예약 해제
+    private void releaseReservationAfterCommit(String orderSeq) {
+        Runnable release = () -> {
+            try {
+                stockReservationRepository.release(orderSeq);
+                System.out.println("재고 예약 해제 완료 - orderSeq: " + orderSeq);
+            } catch (DataAccessException e) {
+                log.warn("재고 예약 해제 실패 - orderSeq: {}", orderSeq, e);
             }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release.run();
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release.run();
+            }
+        });
     }
 
     /**
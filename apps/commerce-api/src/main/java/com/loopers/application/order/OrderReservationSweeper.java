@@ -0,0 +1,44 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.OrderService;
+import com.loopers.domain.stock.StockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 커밋/롤백 콜백을 받지 못한 채 만료된 재고 예약 정리.
+ * 주문이 저장돼 있으면 확정하고, 없으면 (트랜잭션 중 인스턴스 종료 등) 해제해 가용 재고를 되돌린다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class OrderReservationSweeper {
+    private static final int SWEEP_LIMIT = 500;
+
+    private final StockService stockService;
+    private final OrderService orderService;
+
+    @Scheduled(fixedDelayString = "${stock.reservation.sweep-interval-ms:10000}")
+    public void sweep() {
+        if (!stockService.isReservationEnabled()) {
+            return;
+        }
+        try {
+            List<String> expired = stockService.getExpiredReservations(SWEEP_LIMIT);
+            for (String orderSeq : expired) {
+                if (orderService.existsByOrderSeq(orderSeq)) {
+                    stockService.confirmReservation(orderSeq);
+                } else {
+                    stockService.releaseReservation(orderSeq);
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("만료 재고 예약 정리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.loopers.application.order.out;
 
 import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderReceipt;
 
 import java.time.LocalDateTime;
 
@@ -18,4 +19,13 @@ public record OrderCreateResult(
               totalPrice
         );
     }
+
+    public static OrderCreateResult from(OrderReceipt receipt) {
+        return new OrderCreateResult(
+              receipt.orderId(),
+              receipt.status(),
+              receipt.orderedAt(),
+              receipt.price()
+        );
+    }
 }
@@ -0,0 +1,30 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.event.ProductUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 변경이 커밋되면 상세 캐시(detail:{id}, product:{id})를 무효화한다.
+ * 캐시에는 반영된 좋아요 수만 저장하므로, 좋아요 수 반영(flush) 후 캐시를 비우지 않으면 반영된 증감분이 조회에서 빠진다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ProductDetailCacheSynchronizer {
+    private static final String DETAIL_CACHE = "productDetail";
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUpdated(ProductUpdatedEvent event) {
+        Cache cache = cacheManager.getCache(DETAIL_CACHE);
+        if (cache == null) {
+            return;
+        }
+        cache.evict("detail:" + event.productId());
+        cache.evict("product:" + event.productId());
+    }
+}
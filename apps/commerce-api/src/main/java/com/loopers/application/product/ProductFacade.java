@@ -5,32 +5,158 @@ import com.loopers.domain.brand.Brand;
 import com.loopers.domain.brand.BrandService;
 import com.loopers.domain.like.LikeService;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductCursorPage;
+import com.loopers.domain.product.ProductSearchService;
 import com.loopers.domain.product.ProductService;
 import com.loopers.domain.product.vo.ProductSortType;
+import com.loopers.domain.product.vo.TrendingWindow;
+import com.loopers.infrastructure.cache.LayeredCache;
 import com.loopers.interfaces.api.product.ProductWithLikeCountDto;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @RequiredArgsConstructor
 @Component
 public class ProductFacade {
+    private static final String DETAIL_CACHE = "productDetail";
+    private static final int MAX_DETAILS_SIZE = 100;
+
     private final ProductService productService;
     private final BrandService brandService;
+    private final ProductSearchService productSearchService;
+    private final LikeService likeService;
+    private final CacheManager cacheManager;
 
-    // 최신 상품(3개월이내)만 캐싱
-    @Cacheable(value = "productDetail",
-            key = "'detail:' + #productId",
-            condition = "@productService.isRecentProduct(#productId)")
+    // 모든 상품 캐싱, TTL은 등록일시 기준으로 차등 적용 (CacheConfig)
+    // 캐시에는 반영된 좋아요 수만 저장하고, 아직 반영되지 않은 증감분은 조회할 때 합산
     public ProductDetailInfo getDetail(Long productId) {
+        Cache cache = cacheManager.getCache(DETAIL_CACHE);
+        ProductDetailInfo stored = cache == null ? loadDetail(productId) : getOrLoadDetail(cache, productId);
+        return withPendingLikeCount(stored);
+    }
+
+    // 여러 상품 상세 조회 - 캐시 우선, 미스는 상품/브랜드 IN 조회 각 1회. 요청 순서 유지, 없는 상품은 제외
+    public List<ProductDetailInfo> getDetails(Collection<Long> productIds) {
+        Set<Long> ids = new LinkedHashSet<>(productIds);
+        if (ids.size() > MAX_DETAILS_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "한 번에 조회할 수 있는 상품은 최대 " + MAX_DETAILS_SIZE + "개입니다.");
+        }
+
+        Cache cache = cacheManager.getCache(DETAIL_CACHE);
+        Map<Long, ProductDetailInfo> found = findCachedDetails(cache, ids);
+        List<Long> missIds = ids.stream().filter(id -> !found.containsKey(id)).toList();
+
+        if (!missIds.isEmpty()) {
+            List<Product> products = productService.getDetails(missIds);
+            Set<Long> brandIds = products.stream().map(Product::getRefBrandId).collect(Collectors.toSet());
+            Map<Long, Brand> brandsById = brandService.getAll(brandIds).stream()
+                    .collect(Collectors.toMap(Brand::getId, Function.identity()));
+
+            for (Product product : products) {
+                Brand brand = brandsById.get(product.getRefBrandId());
+                if (brand == null) {
+                    continue;
+                }
+                ProductDetailInfo info = ProductDetailInfo.from(product, brand);
+                found.put(product.getId(), info);
+                if (cache != null) {
+                    cache.put(detailKey(product.getId()), info);
+                }
+            }
+        }
+
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(this::withPendingLikeCount)
+                .toList();
+    }
+
+    // 목록/상세 응답의 좋아요 여부 - 상품 수와 관계없이 한 번에 조회
+    public Set<Long> getLikedProductIds(Long userId, Collection<Long> productIds) {
+        return likeService.getLikedProductIds(userId, productIds);
+    }
+
+    public Page<ProductWithLikeCountDto> getProducts(Long brandId, ProductSortType sortType, Pageable pageable) {
+        return productService.getProducts(brandId, sortType, pageable);
+    }
+
+    // TRENDING 정렬만 집계 기간을 사용
+    public Page<ProductWithLikeCountDto> getProducts(Long brandId, ProductSortType sortType, TrendingWindow window, Pageable pageable) {
+        if (sortType == ProductSortType.TRENDING) {
+            return productService.getTrendingProducts(brandId, window, pageable);
+        }
+        return productService.getProducts(brandId, sortType, pageable);
+    }
+
+    public Page<ProductWithLikeCountDto> searchProducts(String keyword, Long brandId, ProductSortType sortType, Pageable pageable) {
+        return productSearchService.search(keyword, brandId, sortType, pageable);
+    }
+
+    public ProductCursorPage getProductsByCursor(Long brandId, ProductSortType sortType, String cursor, int size) {
+        return productService.getProductsByCursor(brandId, sortType, cursor, size);
+    }
+
+    // 동일 상품의 동시 미스는 한 번만 조회, 적재 중 예외(NOT_FOUND 등)는 그대로 전달
+    private ProductDetailInfo getOrLoadDetail(Cache cache, Long productId) {
+        try {
+            return cache.get(detailKey(productId), () -> loadDetail(productId));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private ProductDetailInfo loadDetail(Long productId) {
         Product product = productService.getDetail(productId);
         Brand brand = brandService.get(product.getRefBrandId());
         return ProductDetailInfo.from(product, brand);
     }
 
-    public Page<ProductWithLikeCountDto> getProducts(Long brandId, ProductSortType sortType, Pageable pageable) {
-        return productService.getProducts(brandId, sortType, pageable);
+    private ProductDetailInfo withPendingLikeCount(ProductDetailInfo info) {
+        return info.withLikeCount(productService.getLikeCount(info.id(), info.likeCount()));
+    }
+
+    // L2 조회가 상품 수만큼 왕복하지 않도록 LayeredCache면 MGET 1회로 조회
+    private Map<Long, ProductDetailInfo> findCachedDetails(Cache cache, Collection<Long> ids) {
+        Map<Long, ProductDetailInfo> found = new HashMap<>();
+        if (cache instanceof LayeredCache layeredCache) {
+            Map<String, Object> cached = layeredCache.getAll(ids.stream().map(this::detailKey).toList());
+            for (Long id : ids) {
+                if (cached.get(detailKey(id)) instanceof ProductDetailInfo info) {
+                    found.put(id, info);
+                }
+            }
+        } else if (cache != null) {
+            for (Long id : ids) {
+                ProductDetailInfo cached = cache.get(detailKey(id), ProductDetailInfo.class);
+                if (cached != null) {
+                    found.put(id, cached);
+                }
+            }
+        }
+        return found;
+    }
+
+    private String detailKey(Long productId) {
+        return "detail:" + productId;
     }
 }
@@ -4,8 +4,9 @@ import com.loopers.domain.brand.Brand;
 import com.loopers.domain.product.Product;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
-// 상품 id, 상품명, 상품설명, 판매상태, 원가, 할인가, 브랜드 id, 브랜드명, 좋아요 수
+// 상품 id, 상품명, 상품설명, 판매상태, 원가, 할인가, 브랜드 id, 브랜드명, 좋아요 수, 등록일시(캐시 TTL 결정용)
 public record ProductDetailInfo(
         Long id,
         String name,
@@ -15,9 +16,14 @@ public record ProductDetailInfo(
         BigDecimal sellingPrice,
         Long likeCount,
         Long brandId,
-        String brandName
+        String brandName,
+        LocalDateTime createdAt
 ) {
     public static ProductDetailInfo from(Product product, Brand brand) {
+        return from(product, brand, product.getLikeCount());
+    }
+
+    public static ProductDetailInfo from(Product product, Brand brand, Long likeCount) {
         return new ProductDetailInfo(
                 product.getId(),
                 product.getName(),
@@ -25,10 +31,16 @@ public record ProductDetailInfo(
                 product.getSaleStatus().toString(),
                 product.getOriginalPrice().getValue(),
                 product.getSellingPrice().getValue(),
-                product.getLikeCount(),
+                likeCount,
                 brand.getId(),
-                brand.getName()
+                brand.getName(),
+                product.getCreatedAt()
         );
     }
 
+    public ProductDetailInfo withLikeCount(Long likeCount) {
+        return new ProductDetailInfo(id, name, description, saleStatus, originalPrice, sellingPrice,
+                likeCount, brandId, brandName, createdAt);
+    }
+
 }
@@ -0,0 +1,21 @@
+package com.loopers.application.stock;
+
+import com.loopers.application.stock.out.StockBucketInfo;
+import com.loopers.domain.stock.StockService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class StockFacade {
+    private final StockService stockService;
+
+    // 주문이 몰리는 상품의 재고를 bucket으로 나눔 (다른 인스턴스는 bucket 목록 갱신 주기 뒤부터 bucket으로 차감)
+    public StockBucketInfo splitIntoBuckets(Long productId, int bucketCount) {
+        return StockBucketInfo.from(productId, stockService.splitIntoBuckets(productId, bucketCount));
+    }
+
+    public StockBucketInfo mergeBuckets(Long productId) {
+        return StockBucketInfo.from(stockService.mergeBuckets(productId));
+    }
+}
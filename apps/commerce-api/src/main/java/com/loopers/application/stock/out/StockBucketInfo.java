@@ -0,0 +1,29 @@
+package com.loopers.application.stock.out;
+
+import com.loopers.domain.stock.Stock;
+import com.loopers.domain.stock.StockBucket;
+
+import java.util.List;
+
+public record StockBucketInfo(
+        Long productId,
+        int totalQuantity,
+        List<Integer> bucketQuantities
+) {
+    public static StockBucketInfo from(Long productId, List<StockBucket> buckets) {
+        List<Integer> quantities = buckets.stream().map(StockBucket::getQuantity).toList();
+        return new StockBucketInfo(
+                productId,
+                quantities.stream().mapToInt(Integer::intValue).sum(),
+                quantities
+        );
+    }
+
+    public static StockBucketInfo from(Stock stock) {
+        return new StockBucketInfo(
+                stock.getRefProductId(),
+                stock.getQuantity(),
+                List.of()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.loopers.domain.brand;
+
+import com.loopers.domain.brand.event.BrandUpdatedEvent;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+// 브랜드 엔티티 변경을 도메인 이벤트로 변환 (ProductEntityListener와 동일한 방식)
+@RequiredArgsConstructor
+public class BrandEntityListener {
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    public void onUpdate(Brand brand) {
+        eventPublisher.publishEvent(new BrandUpdatedEvent(brand.getId(), brand.getName()));
+    }
+}
@@ -1,9 +1,12 @@
 package com.loopers.domain.brand;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface BrandRepository {
     Optional<Brand> findById(Long brandId);
+    List<Brand> findAllByIds(Collection<Long> brandIds);
     Brand save(Brand testBrand1);
     void deleteAll();
 }
@@ -5,6 +5,9 @@ import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+
 @RequiredArgsConstructor
 @Component
 public class BrandService {
@@ -15,4 +18,9 @@ public class BrandService {
         return brandRepository.findById(brandId)
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "조회 ID로 브랜드가 존재하지 않습니다."));
     }
+
+    // 존재하는 브랜드만 반환 (IN 조회 1회)
+    public List<Brand> getAll(Collection<Long> brandIds) {
+        return brandRepository.findAllByIds(brandIds);
+    }
 }
@@ -0,0 +1,8 @@
+package com.loopers.domain.brand.event;
+
+// 브랜드 변경 이벤트
+public record BrandUpdatedEvent(
+        Long brandId,
+        String name
+) {
+}
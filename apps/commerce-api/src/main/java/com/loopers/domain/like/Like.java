@@ -15,7 +15,13 @@ import lombok.NoArgsConstructor;
 @Table(name = "`like`",
         uniqueConstraints = @UniqueConstraint(
         columnNames = {"ref_user_id", "ref_product_id"}
-))
+),
+        indexes = {
+                // 사용자별 좋아요 목록 (최신순) - 커서 조회에 필요한 컬럼을 모두 포함 (id는 PK로 포함됨)
+                @Index(name = "idx_like_user_created_at", columnList = "ref_user_id, created_at DESC, ref_product_id DESC"),
+                // 상품 id 구간별 좋아요 수 집계 (좋아요 수 보정)
+                @Index(name = "idx_like_product", columnList = "ref_product_id")
+        })
 public class Like extends BaseEntity {
 
     @Column(nullable = false)
@@ -1,9 +1,11 @@
 package com.loopers.domain.like;
 
 import com.loopers.domain.like.dto.LikedProductDto;
+import com.loopers.domain.like.vo.LikedProductCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface LikeRepository {
@@ -11,7 +13,9 @@ public interface LikeRepository {
     boolean existsByRefUserIdAndRefProductId(Long refUserId, Long refProductId);
     int delete(Long refUserId, Long refProductId);
     Page<LikedProductDto> findLikedProductsByRefUserId(Long refUserId, Pageable pageable);
+    LikedProductCursorPage findLikedProductsByRefUserIdAndCursor(Long refUserId, LikedProductCursor cursor, int size);
     long countLikeByProductId(Long productId);
+    List<Long> findLikedProductIds(Long refUserId, Collection<Long> productIds);
     List<Like> findAllByProductId(Long productId1);
     List<Like> findAllByUserIdAndProductId(Long userId1, Long productId1);
     void deleteAll();
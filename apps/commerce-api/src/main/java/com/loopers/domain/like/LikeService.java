@@ -1,16 +1,49 @@
 package com.loopers.domain.like;
 
 import com.loopers.domain.like.dto.LikedProductDto;
+import com.loopers.domain.like.vo.LikedProductCursor;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Slf4j
 @RequiredArgsConstructor
 @Component
 public class LikeService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final LikeRepository likeRepository;
+    private final LikeStateRepository likeStateRepository;
+
+    public boolean isStateStoreEnabled() {
+        return likeStateRepository.isEnabled();
+    }
+
+    // Redis 경로 - 이미 같은 상태면 예외 없이 false (멱등), like 테이블은 outbox로 비동기 반영
+    public boolean like(Long refUserId, Long refProductId, long currentLikeCount) {
+        Like.validateRefUserId(refUserId);
+        Like.validateRefProductId(refProductId);
+        return likeStateRepository.like(refUserId, refProductId, currentLikeCount);
+    }
+
+    public boolean unlike(Long refUserId, Long refProductId, long currentLikeCount) {
+        Like.validateRefUserId(refUserId);
+        Like.validateRefProductId(refProductId);
+        return likeStateRepository.unlike(refUserId, refProductId, currentLikeCount);
+    }
 
     @Transactional
     public boolean create(Like like) {
@@ -35,11 +68,69 @@ public class LikeService {
     }
 
     public Page<LikedProductDto> getLikedProducts(Long refUserId, Pageable pageable) {
-        return likeRepository.findLikedProductsByRefUserId(refUserId, pageable);
+        Page<LikedProductDto> likedProducts = likeRepository.findLikedProductsByRefUserId(refUserId, pageable);
+        Map<Long, Long> likeCounts = findLikeCounts(likedProducts.getContent());
+        return likedProducts.map(dto -> withLikeCount(dto, likeCounts));
+    }
+
+    // 커서 기반 조회 - 좋아요가 많은 사용자도 페이지마다 같은 비용, COUNT 쿼리 없음
+    public LikedProductCursorPage getLikedProductsByCursor(Long refUserId, String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "조회 크기는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        LikedProductCursorPage page = likeRepository.findLikedProductsByRefUserIdAndCursor(
+                refUserId, LikedProductCursor.decode(cursor), size);
+        Map<Long, Long> likeCounts = findLikeCounts(page.content());
+        return new LikedProductCursorPage(
+                page.content().stream().map(dto -> withLikeCount(dto, likeCounts)).toList(),
+                page.size(),
+                page.nextCursor(),
+                page.hasNext()
+        );
+    }
+
+    // 조회한 상품 중 사용자가 좋아요한 상품 id - Redis 1회, 사용자 set이 없거나 장애 시 DB IN 조회 1회
+    public Set<Long> getLikedProductIds(Long refUserId, Collection<Long> productIds) {
+        if (refUserId == null || productIds.isEmpty()) {
+            return Set.of();
+        }
+        if (likeStateRepository.isEnabled()) {
+            try {
+                Optional<Set<Long>> likedProductIds = likeStateRepository.findLikedProductIds(refUserId, productIds);
+                if (likedProductIds.isPresent()) {
+                    return likedProductIds.get();
+                }
+            } catch (DataAccessException e) {
+                log.warn("좋아요 상태 저장소 조회 실패 - DB 조회로 대체합니다: {}", e.getMessage());
+            }
+        }
+        return new HashSet<>(likeRepository.findLikedProductIds(refUserId, productIds));
     }
 
     public long countLikeByProductId(Long productId) {
         return likeRepository.countLikeByProductId(productId);
 
     }
+
+    // Redis 카운터가 있으면 반영 대기 중인 좋아요까지 포함된 값을 사용, 없거나 조회 실패 시 DB 값 유지
+    private Map<Long, Long> findLikeCounts(List<LikedProductDto> likedProducts) {
+        if (!likeStateRepository.isEnabled() || likedProducts.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return likeStateRepository.findLikeCounts(likedProducts.stream().map(LikedProductDto::productId).toList());
+        } catch (DataAccessException e) {
+            log.warn("좋아요 수 카운터 조회 실패 - DB 값을 사용합니다: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private LikedProductDto withLikeCount(LikedProductDto dto, Map<Long, Long> likeCounts) {
+        Long likeCount = likeCounts.get(dto.productId());
+        if (likeCount == null) {
+            return dto;
+        }
+        return new LikedProductDto(dto.likeId(), dto.productId(), dto.productName(), dto.originalPrice(),
+                dto.sellingPrice(), dto.saleStatus(), dto.liked(), likeCount);
+    }
 }
@@ -0,0 +1,19 @@
+package com.loopers.domain.like;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// 좋아요 상태 저장소 (Redis) - 사용자별 좋아요 상품 set + 상품별 좋아요 수, 상태가 바뀌면 DB 반영용 outbox에 기록
+public interface LikeStateRepository {
+    boolean isEnabled();
+    boolean like(Long userId, Long productId, long currentLikeCount);
+    boolean unlike(Long userId, Long productId, long currentLikeCount);
+    Map<Long, Long> findLikeCounts(Collection<Long> productIds);
+    Optional<Set<Long>> findLikedProductIds(Long userId, Collection<Long> productIds);
+    // 아직 like 테이블에 반영되지 않은 변경이 있는 상품 id, limit건 넘게 쌓여 있으면 empty
+    Optional<Set<Long>> findUnrelayedProductIds(int limit);
+    // like 테이블을 직접 바꾼 뒤 (대량 적재 등) 사용자 set과 좋아요 수를 지워 다음 요청에서 DB 기준으로 다시 채우게 함
+    void evictAll();
+}
@@ -0,0 +1,14 @@
+package com.loopers.domain.like;
+
+import com.loopers.domain.like.dto.LikedProductDto;
+
+import java.util.List;
+
+// 좋아요한 상품 커서 페이징 결과 (COUNT 쿼리 없이 다음 페이지 존재 여부만 판단)
+public record LikedProductCursorPage(
+        List<LikedProductDto> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+}
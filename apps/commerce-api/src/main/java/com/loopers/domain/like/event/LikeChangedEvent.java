@@ -0,0 +1,13 @@
+package com.loopers.domain.like.event;
+
+import java.time.LocalDateTime;
+
+// 좋아요 상태 변경 이벤트 (delta: 좋아요 +1, 취소 -1)
+public record LikeChangedEvent(
+        Long userId,
+        Long productId,
+        Long brandId,
+        long delta,
+        LocalDateTime occurredAt
+) {
+}
@@ -0,0 +1,42 @@
+package com.loopers.domain.like.vo;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 좋아요한 상품 목록 커서(keyset) 페이징용 커서.
+ * 사용자별로 (좋아요 일시, 상품 id)가 유일하므로 두 값으로 마지막으로 본 행을 가리킨다.
+ */
+public record LikedProductCursor(
+        LocalDateTime createdAt,
+        Long productId
+) {
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + productId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 첫 페이지(null)
+    public static LikedProductCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException();
+            }
+            return new LikedProductCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (RuntimeException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+}
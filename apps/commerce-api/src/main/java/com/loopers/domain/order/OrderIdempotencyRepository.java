@@ -0,0 +1,13 @@
+package com.loopers.domain.order;
+
+import java.util.Optional;
+
+// orderSeq별 주문 접수 기록, 같은 주문의 재요청을 재고/포인트 처리 전에 걸러낸다
+public interface OrderIdempotencyRepository {
+    // 커밋된 주문의 접수 결과 (처리 중이거나 기록이 없으면 empty)
+    Optional<OrderReceipt> find(String orderSeq);
+    // 처리 중으로 표시, 이미 처리 중이거나 완료된 주문이면 false. 트랜잭션이 롤백되면 표시 해제
+    boolean tryAcquire(String orderSeq);
+    // 커밋된 뒤 접수 결과 저장 (처리 중 표시를 덮어씀)
+    void saveOnCommit(String orderSeq, OrderReceipt receipt);
+}
@@ -0,0 +1,22 @@
+package com.loopers.domain.order;
+
+import java.time.LocalDateTime;
+
+// 주문 접수 결과, 같은 orderSeq로 다시 요청하면 그대로 돌려준다
+public record OrderReceipt(
+        Long orderId,
+        Long refUserId,
+        String status,
+        LocalDateTime orderedAt,
+        Long price
+) {
+    public static OrderReceipt from(Order order) {
+        return new OrderReceipt(
+                order.getId(),
+                order.getRefUserId(),
+                order.getOrderStatus().name(),
+                order.getCreatedAt(),
+                order.getTotalAmount()
+        );
+    }
+}
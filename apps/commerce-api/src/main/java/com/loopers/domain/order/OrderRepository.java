@@ -8,4 +8,6 @@ public interface OrderRepository {
     Optional<Order> findById(Long id);
     List<Order> findAllByUserId(Long refUserId);
     Optional<Order> findByIdAndUserId(Long orderId, Long userId);
+    boolean existsByOrderSeq(String orderSeq);
+    Optional<Order> findByOrderSeq(String orderSeq);
 }
@@ -6,16 +6,39 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Component
 public class OrderService {
     private final OrderRepository orderRepository;
+    private final OrderIdempotencyRepository orderIdempotencyRepository;
 
     public Order save(Order order) {
         return orderRepository.save(order);
     }
 
+    public boolean existsByOrderSeq(String orderSeq) {
+        return orderRepository.existsByOrderSeq(orderSeq);
+    }
+
+    // 접수 기록이 없으면 주문 테이블에서 확인 (보관 기간이 지났거나 Redis 장애로 기록이 없는 경우)
+    public Optional<OrderReceipt> findReceipt(String orderSeq) {
+        Optional<OrderReceipt> receipt = orderIdempotencyRepository.find(orderSeq);
+        if (receipt.isPresent()) {
+            return receipt;
+        }
+        return orderRepository.findByOrderSeq(orderSeq).map(OrderReceipt::from);
+    }
+
+    public boolean acquireSubmission(String orderSeq) {
+        return orderIdempotencyRepository.tryAcquire(orderSeq);
+    }
+
+    public void saveReceiptOnCommit(Order order) {
+        orderIdempotencyRepository.saveOnCommit(order.getOrderSeq(), OrderReceipt.from(order));
+    }
+
     public List<Order> getOrders(Long refUserId) {
         return orderRepository.findAllByUserId(refUserId);
     }
@@ -9,11 +9,16 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 @Entity
 @Getter
+@EntityListeners(ProductEntityListener.class)
+// 변경된 컬럼만 UPDATE - like_count는 ProductLikeCountBuffer가 직접 합산하므로 다른 변경이 덮어쓰지 않도록
+@DynamicUpdate
 @Table(name = "product")
 @NoArgsConstructor
 @AllArgsConstructor
@@ -44,6 +49,10 @@ public class Product extends BaseEntity {
     @Column(nullable = false)
     private Long likeCount = 0L;
 
+    // 할인율(%) = (원가 - 판매가) / 원가 * 100, 소수점 둘째 자리 버림. 가격으로부터 계산해 저장 (정렬 인덱스용)
+    @Column(name = "discount_rate", precision = 5, scale = 2)
+    private BigDecimal discountRate;
+
     @Version
     private Long version;
 
@@ -55,6 +64,16 @@ public class Product extends BaseEntity {
         this.sellingPrice = sellingPrice;
         this.saleStatus = saleStatus;
         this.refBrandId = refBrandId;
+        this.discountRate = calculateDiscountRate(originalPrice.getValue(), sellingPrice.getValue());
+    }
+
+    public static BigDecimal calculateDiscountRate(BigDecimal originalPrice, BigDecimal sellingPrice) {
+        if (originalPrice.signum() == 0) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        return originalPrice.subtract(sellingPrice)
+                .multiply(BigDecimal.valueOf(100))
+                .divide(originalPrice, 2, RoundingMode.DOWN);
     }
 
     public static Product from(String name, String description, BigDecimal sellingPrice, BigDecimal originalPrice, String saleStatus, Long refBrandId) {
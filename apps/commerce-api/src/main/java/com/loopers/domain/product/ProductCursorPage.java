@@ -0,0 +1,14 @@
+package com.loopers.domain.product;
+
+import com.loopers.interfaces.api.product.ProductWithLikeCountDto;
+
+import java.util.List;
+
+// 커서 페이징 결과 (COUNT 쿼리 없이 다음 페이지 존재 여부만 판단)
+public record ProductCursorPage(
+        List<ProductWithLikeCountDto> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,35 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.product.event.ProductCreatedEvent;
+import com.loopers.domain.product.event.ProductDeletedEvent;
+import com.loopers.domain.product.event.ProductUpdatedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 상품 엔티티 생명주기를 도메인 이벤트로 변환한다.
+ * 저장 경로(Repository, JpaRepository, 더티체킹)와 무관하게 동일한 이벤트가 발행된다.
+ * 리스너 인스턴스는 Hibernate의 SpringBeanContainer를 통해 생성되어 의존성을 주입받는다.
+ */
+@RequiredArgsConstructor
+public class ProductEntityListener {
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onPersist(Product product) {
+        eventPublisher.publishEvent(new ProductCreatedEvent(product.getId(), product.getRefBrandId()));
+    }
+
+    @PostUpdate
+    public void onUpdate(Product product) {
+        eventPublisher.publishEvent(new ProductUpdatedEvent(product.getId(), product.getRefBrandId()));
+    }
+
+    @PostRemove
+    public void onRemove(Product product) {
+        eventPublisher.publishEvent(new ProductDeletedEvent(product.getId(), product.getRefBrandId()));
+    }
+}
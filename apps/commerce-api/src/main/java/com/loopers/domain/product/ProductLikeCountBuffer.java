@@ -0,0 +1,8 @@
+package com.loopers.domain.product;
+
+// 좋아요 수 증감분 버퍼 (write-behind) - 커밋된 증감분을 모아 주기적으로 product.like_count에 합산 반영
+public interface ProductLikeCountBuffer {
+    void add(Long productId, long delta);
+    long pending(Long productId);
+    void flush();
+}
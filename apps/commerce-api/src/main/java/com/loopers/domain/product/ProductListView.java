@@ -0,0 +1,72 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.product.vo.SaleStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Synchronize;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록 조회 전용 비정규화 테이블.
+ * product + brand 조인 결과 중 목록에 필요한 컬럼만 보관하며, 쓰기는 ProductListViewSynchronizer만 수행한다.
+ * 정렬 타입별 (필터, 정렬 키, id) 인덱스로 id 페이지를 인덱스만으로 찾는다.
+ */
+@Entity
+@Getter
+@Table(name = "product_list_view", indexes = {
+        @Index(name = "idx_plv_created_at", columnList = "created_at, product_id"),
+        @Index(name = "idx_plv_like_count", columnList = "like_count, product_id"),
+        @Index(name = "idx_plv_brand_created_at", columnList = "brand_id, created_at, product_id"),
+        @Index(name = "idx_plv_brand_like_count", columnList = "brand_id, like_count, product_id"),
+        @Index(name = "idx_plv_selling_price", columnList = "selling_price, product_id"),
+        @Index(name = "idx_plv_discount_rate", columnList = "discount_rate, product_id"),
+        @Index(name = "idx_plv_brand_selling_price", columnList = "brand_id, selling_price, product_id"),
+        @Index(name = "idx_plv_brand_discount_rate", columnList = "brand_id, discount_rate, product_id")
+})
+// 조회 전에 영속성 컨텍스트의 상품/브랜드 변경이 flush 되도록 (flush 시 동기화됨)
+@Synchronize({"product", "brand"})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductListView {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "original_price", nullable = false)
+    private BigDecimal originalPrice;
+
+    @Column(name = "selling_price", nullable = false)
+    private BigDecimal sellingPrice;
+
+    @Column(name = "discount_rate", nullable = false, precision = 5, scale = 2)
+    private BigDecimal discountRate;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private SaleStatus saleStatus;
+
+    @Column(name = "brand_id", nullable = false)
+    private Long brandId;
+
+    @Column(name = "brand_name")
+    private String brandName;
+
+    @Column(name = "like_count", nullable = false)
+    private Long likeCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,12 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+
+// 좋아요 수 기준 상품 랭킹 저장소 (전체 + 브랜드별)
+public interface ProductRankingRepository {
+    boolean isReady();
+    List<Long> findRankedProductIds(Long brandId, long offset, int size);
+    long count(Long brandId);
+    void increaseScore(Long productId, Long brandId, long delta);
+    void rebuild();
+}
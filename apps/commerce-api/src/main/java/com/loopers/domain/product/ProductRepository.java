@@ -1,16 +1,22 @@
 package com.loopers.domain.product;
 
+import com.loopers.domain.product.vo.ProductCursor;
 import com.loopers.domain.product.vo.ProductSortType;
 import com.loopers.interfaces.api.product.ProductWithLikeCountDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProductRepository {
     Optional<Product> findById(Long id);
+    List<Product> findAllByIds(Collection<Long> ids);
     boolean existsById(Long id);
     Product save(Product product);
     Page<ProductWithLikeCountDto> findProductsWithLikeCount(Long brandId, ProductSortType sortType, Pageable pageable);
+    List<ProductWithLikeCountDto> findProductsWithLikeCountByIds(List<Long> ids);
+    ProductCursorPage findProductsWithLikeCountByCursor(Long brandId, ProductSortType sortType, ProductCursor cursor, int size);
     void deleteAll();
 }
@@ -0,0 +1,10 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.product.vo.ProductSortType;
+
+// 상품명/설명 전문 검색 저장소 (관련도 순, 동점은 정렬 타입 기준)
+public interface ProductSearchRepository {
+    boolean isReady();
+    ProductSearchResult search(String keyword, Long brandId, ProductSortType sortType, int offset, int size);
+    void rebuild();
+}
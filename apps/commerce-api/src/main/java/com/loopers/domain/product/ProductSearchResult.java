@@ -0,0 +1,13 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+
+// 검색 결과 - 현재 페이지의 상품 id(순서 유지)와 전체 매칭 건수
+public record ProductSearchResult(
+        List<Long> productIds,
+        long totalCount
+) {
+    public static ProductSearchResult empty() {
+        return new ProductSearchResult(List.of(), 0L);
+    }
+}
@@ -0,0 +1,38 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.product.vo.ProductSortType;
+import com.loopers.interfaces.api.product.ProductWithLikeCountDto;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class ProductSearchService {
+    private static final int MAX_KEYWORD_LENGTH = 50;
+
+    private final ProductSearchRepository productSearchRepository;
+    private final ProductRepository productRepository;
+
+    // 색인에서 id 페이지를 가져온 뒤 IN 조회, 검색 순서 유지
+    public Page<ProductWithLikeCountDto> search(String keyword, Long brandId, ProductSortType sortType, Pageable pageable) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "검색어는 null이거나 빈 문자열일 수 없습니다.");
+        }
+        if (keyword.length() > MAX_KEYWORD_LENGTH) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "검색어는 " + MAX_KEYWORD_LENGTH + "자 이하여야 합니다.");
+        }
+        // 색인 생성 중 전체 LIKE 조회로 대체하면 기동 직후 DB 부하가 커지므로 재시도 가능한 오류로 응답
+        if (!productSearchRepository.isReady()) {
+            throw new CoreException(ErrorType.SERVICE_UNAVAILABLE, "검색 색인을 준비 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        ProductSearchResult result = productSearchRepository.search(
+                keyword, brandId, sortType, (int) pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(productRepository.findProductsWithLikeCountByIds(result.productIds()), pageable, result.totalCount());
+    }
+}
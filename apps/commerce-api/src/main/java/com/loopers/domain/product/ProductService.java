@@ -1,29 +1,65 @@
 package com.loopers.domain.product;
 
+import com.loopers.domain.product.vo.ProductCursor;
 import com.loopers.domain.product.vo.ProductSortType;
+import com.loopers.domain.product.vo.TrendingWindow;
 import com.loopers.interfaces.api.product.ProductWithLikeCountDto;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @RequiredArgsConstructor
 @Component
 public class ProductService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     public final ProductRepository productRepository;
+    private final ProductRankingRepository productRankingRepository;
+    private final ProductLikeCountBuffer productLikeCountBuffer;
+    private final ProductTrendingRepository productTrendingRepository;
 
-    @Cacheable(value = "productDetail", key = "#productId")
+    // ProductFacade의 상세 정보(detail:{id})와 같은 캐시를 쓰므로 엔티티는 product:{id} 키로 구분
+    @Cacheable(value = "productDetail", key = "'product:' + #productId")
     public Product getDetail(Long productId) {
         return productRepository.findById(productId)
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품 ID가 존재하지 않습니다."));
     }
 
+    // 존재하는 상품만 반환 (IN 조회 1회)
+    public List<Product> getDetails(Collection<Long> productIds) {
+        return productRepository.findAllByIds(productIds);
+    }
+
+    // 주문 상품 일괄 조회 (IN 조회 1회), 없는 상품이 있으면 해당 ID를 모두 담아 예외
+    public Map<Long, Product> getAllByIds(Collection<Long> productIds) {
+        Map<Long, Product> products = productRepository.findAllByIds(new LinkedHashSet<>(productIds)).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<Long> missingIds = productIds.stream()
+                .filter(id -> !products.containsKey(id))
+                .distinct()
+                .sorted()
+                .toList();
+        if (!missingIds.isEmpty()) {
+            throw new CoreException(ErrorType.NOT_FOUND, "상품 ID가 존재하지 않습니다. " + missingIds);
+        }
+        return products;
+    }
+
     public boolean existsById(Long id) {
         return productRepository.existsById(id);
     }
@@ -31,23 +67,79 @@ public class ProductService {
     // 목록 조회가 많을 것으로 예상되는 기본 목록 조회 3페이지 까지 캐싱
     @Cacheable(value = "productList",
             key = "'latest:page:' + #pageable.pageNumber + ':size:' + #pageable.pageSize",
-            condition = "#brandId == null && #sortType.name() == 'LATEST' && #pageable.pageNumber <= 2")
+            condition = "#brandId == null && #sortType.name() == 'LATEST' && #pageable.pageNumber <= 2",
+            sync = true)
     public Page<ProductWithLikeCountDto> getProducts(Long brandId, ProductSortType sortType, Pageable pageable) {
+        if (sortType == ProductSortType.TRENDING) {
+            return getTrendingProducts(brandId, TrendingWindow.DAY, pageable);
+        }
+        if (sortType == ProductSortType.LIKE_COUNT && productRankingRepository.isReady()) {
+            try {
+                return getProductsByRanking(brandId, pageable);
+            } catch (DataAccessException e) {
+                // 랭킹 저장소 장애 시 DB 정렬로 대체
+                log.warn("랭킹 저장소 조회 실패 - DB 정렬로 대체합니다: {}", e.getMessage());
+            }
+        }
         return productRepository.findProductsWithLikeCount(brandId, sortType, pageable);
     }
 
+    // 좋아요순은 랭킹에서 id 페이지를 가져온 뒤 IN 조회, 랭킹 순서 유지
+    private Page<ProductWithLikeCountDto> getProductsByRanking(Long brandId, Pageable pageable) {
+        List<Long> rankedIds = productRankingRepository.findRankedProductIds(brandId, pageable.getOffset(), pageable.getPageSize());
+        long total = productRankingRepository.count(brandId);
+        return new PageImpl<>(productRepository.findProductsWithLikeCountByIds(rankedIds), pageable, total);
+    }
+
+    // 인기순은 메모리 집계에서 id 페이지를 가져온 뒤 IN 조회, 집계 준비 전에는 좋아요순으로 대체
+    public Page<ProductWithLikeCountDto> getTrendingProducts(Long brandId, TrendingWindow window, Pageable pageable) {
+        if (!productTrendingRepository.isReady()) {
+            return getProducts(brandId, ProductSortType.LIKE_COUNT, pageable);
+        }
+        List<Long> trendingIds = productTrendingRepository.findTrendingProductIds(brandId, window, pageable.getOffset(), pageable.getPageSize());
+        long total = productTrendingRepository.count(brandId, window);
+        return new PageImpl<>(productRepository.findProductsWithLikeCountByIds(trendingIds), pageable, total);
+    }
+
+    public List<TrendingScore> getTrendingBrands(TrendingWindow window, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "조회 크기는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        return productTrendingRepository.findTrendingBrands(window, size);
+    }
+
+    // 커서 기반 조회 - 깊은 페이지도 첫 페이지와 동일한 비용, COUNT 쿼리 없음
+    public ProductCursorPage getProductsByCursor(Long brandId, ProductSortType sortType, String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "조회 크기는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        if (sortType == ProductSortType.TRENDING) {
+            // 인기 순위는 집계 주기마다 바뀌어 마지막으로 본 위치를 커서로 고정할 수 없음
+            throw new CoreException(ErrorType.BAD_REQUEST, "TRENDING 정렬은 커서 조회를 지원하지 않습니다.");
+        }
+        ProductCursor productCursor = ProductCursor.decode(cursor, sortType);
+        return productRepository.findProductsWithLikeCountByCursor(brandId, sortType, productCursor, size);
+    }
+
+    // 상품을 수정하지 않고 증감분만 버퍼에 누적 (주기적으로 like_count에 반영)
     public void increaseLikeCount(Product product){
-        Product.increaseLikeCount(product);
+        productLikeCountBuffer.add(product.getId(), 1L);
+        productRankingRepository.increaseScore(product.getId(), product.getRefBrandId(), 1L);
     }
 
+    // 좋아요 행이 삭제된 경우에만 호출되므로 반영된 좋아요 수가 음수가 되지 않음 (0 미만이 되는 증감분은 반영 시 거부)
     public void decreaseLikeCount(Product product){
-        Product.decreaseLikeCount(product);
+        productLikeCountBuffer.add(product.getId(), -1L);
+        productRankingRepository.increaseScore(product.getId(), product.getRefBrandId(), -1L);
     }
 
-    public boolean isRecentProduct(Long productId) {  // ✅ boolean 리턴
-        Product product = productRepository.findById(productId).orElse(null);
-        if (product == null) return false;
+    // 반영된 좋아요 수 + 아직 반영되지 않은 증감분
+    public long getLikeCount(Product product) {
+        return getLikeCount(product.getId(), product.getLikeCount());
+    }
 
-        return product.getCreatedAt().isAfter(LocalDateTime.now().minusMonths(3));
+    // 캐시된 상세 정보처럼 반영된 좋아요 수만 가진 경우
+    public long getLikeCount(Long productId, long storedLikeCount) {
+        return Math.max(0L, storedLikeCount + productLikeCountBuffer.pending(productId));
     }
 }
@@ -0,0 +1,15 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.product.vo.TrendingWindow;
+
+import java.util.List;
+
+// 기간별 좋아요 수 기준 인기 상품/브랜드 (최근 1시간, 24시간, 7일)
+public interface ProductTrendingRepository {
+    boolean isReady();
+    List<Long> findTrendingProductIds(Long brandId, TrendingWindow window, long offset, int size);
+    long count(Long brandId, TrendingWindow window);
+    List<TrendingScore> findTrendingBrands(TrendingWindow window, int size);
+    // 집계를 비우고 like 테이블 기준으로 다시 채움 (like 테이블을 직접 바꾼 뒤)
+    void rebuild();
+}
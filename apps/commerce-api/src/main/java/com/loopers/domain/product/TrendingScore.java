@@ -0,0 +1,8 @@
+package com.loopers.domain.product;
+
+// 집계 기간 내 좋아요 수 (id는 상품 또는 브랜드 id)
+public record TrendingScore(
+        Long id,
+        long score
+) {
+}
@@ -0,0 +1,8 @@
+package com.loopers.domain.product.event;
+
+// 상품 삭제 이벤트 (커밋 이후 후속 처리용)
+public record ProductDeletedEvent(
+        Long productId,
+        Long brandId
+) {
+}
@@ -0,0 +1,8 @@
+package com.loopers.domain.product.event;
+
+// 상품 변경 이벤트 (가격, 판매상태, 좋아요 수 등)
+public record ProductUpdatedEvent(
+        Long productId,
+        Long brandId
+) {
+}
@@ -0,0 +1,68 @@
+package com.loopers.domain.product.vo;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 상품 목록 커서(keyset) 페이징용 커서.
+ * 정렬 키와 id를 함께 담아 "마지막으로 본 행" 다음부터 조회할 수 있게 한다.
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 노출한다.
+ */
+public record ProductCursor(
+        ProductSortType sortType,
+        String key,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public static ProductCursor of(ProductSortType sortType, Object key, Long id) {
+        return new ProductCursor(sortType, String.valueOf(key), id);
+    }
+
+    public String encode() {
+        String raw = sortType.name() + DELIMITER + key + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 첫 페이지(null), 정렬 타입이 다르면 400
+    public static ProductCursor decode(String token, ProductSortType sortType) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException();
+            }
+
+            ProductCursor cursor = new ProductCursor(ProductSortType.valueOf(parts[0]), parts[1], Long.valueOf(parts[2]));
+            if (cursor.sortType() != sortType) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "커서의 정렬 타입이 요청한 정렬 타입과 다릅니다.");
+            }
+            return cursor;
+        } catch (CoreException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    public LocalDateTime createdAtKey() {
+        return LocalDateTime.parse(key);
+    }
+
+    public Long longKey() {
+        return Long.valueOf(key);
+    }
+
+    public BigDecimal decimalKey() {
+        return new BigDecimal(key);
+    }
+}
@@ -4,8 +4,12 @@ import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 
 public enum ProductSortType {
-    LATEST,     // 최신순
-    LIKE_COUNT; // 좋아요 수순
+    LATEST,         // 최신순
+    LIKE_COUNT,     // 좋아요 수순
+    PRICE_ASC,      // 낮은 가격순 (판매가)
+    PRICE_DESC,     // 높은 가격순 (판매가)
+    DISCOUNT_RATE,  // 할인율 높은순
+    TRENDING;       // 기간 내 좋아요 수순 (인기 급상승)
 
     public static ProductSortType fromString(String sortType) {
         if (sortType == null || sortType.isBlank()) {
@@ -16,7 +20,7 @@ public enum ProductSortType {
             return ProductSortType.valueOf(sortType.toUpperCase());
         } catch (IllegalArgumentException e) {
             throw new CoreException(ErrorType.BAD_REQUEST, 
-                "유효하지 않은 정렬 타입입니다. (LATEST, LIKE_COUNT 중 하나를 입력해주세요)");
+                "유효하지 않은 정렬 타입입니다. (LATEST, LIKE_COUNT, PRICE_ASC, PRICE_DESC, DISCOUNT_RATE, TRENDING 중 하나를 입력해주세요)");
         }
     }
 }
@@ -0,0 +1,23 @@
+package com.loopers.domain.product.vo;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+public enum TrendingWindow {
+    HOUR,   // 최근 1시간
+    DAY,    // 최근 24시간
+    WEEK;   // 최근 7일
+
+    public static TrendingWindow fromString(String window) {
+        if (window == null || window.isBlank()) {
+            return DAY; // 기본값
+        }
+
+        try {
+            return TrendingWindow.valueOf(window.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST,
+                "유효하지 않은 집계 기간입니다. (HOUR, DAY, WEEK 중 하나를 입력해주세요)");
+        }
+    }
+}
@@ -55,4 +55,10 @@ public class Stock extends BaseEntity {
     public void updateQuantity(int StockQuantity, int orderQuantity) {
         this.quantity = calculateQuantity(StockQuantity, orderQuantity);
     }
+
+    // 취소/결제 실패로 차감했던 수량 원복
+    public void increaseQuantity(int quantity) {
+        validateQuantity(quantity);
+        this.quantity += quantity;
+    }
 }
@@ -0,0 +1,12 @@
+package com.loopers.domain.stock;
+
+// 인스턴스 로컬 품절 표시, 변경은 다른 인스턴스에도 전파
+public interface StockAvailabilityCache {
+    boolean isSoldOut(Long productId);
+    // 커밋된 재고에서 남은 수량이 없음을 확인한 경우 바로 표시
+    void markSoldOut(Long productId);
+    // 현재 트랜잭션이 마지막 재고를 차감한 경우 커밋된 뒤 표시
+    void markSoldOutOnCommit(Long productId);
+    // 재입고/복구로 재고가 다시 생긴 경우 바로 해제
+    void markAvailable(Long productId);
+}
@@ -0,0 +1,40 @@
+package com.loopers.domain.stock;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문이 몰리는 상품의 재고를 나눠 담는 하위 재고 행.
+ * 주문마다 임의의 bucket을 차감하므로 한 상품의 주문이 stock 행 하나에 줄 서지 않는다.
+ */
+@Entity
+@Getter
+@Table(name = "stock_bucket",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stock_bucket_product_bucket", columnNames = {"ref_product_id", "bucket_no"}))
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockBucket extends BaseEntity {
+
+    @Column(nullable = false)
+    private Long refProductId;
+    @Column(nullable = false)
+    private int bucketNo;
+    @Column(nullable = false)
+    private int quantity;
+
+    public static StockBucket from(Long refProductId, int bucketNo, int quantity) {
+        Stock.validateRefProductId(refProductId);
+        Stock.validateQuantity(quantity);
+        return new StockBucket(refProductId, bucketNo, quantity);
+    }
+
+    public void decreaseQuantity(int quantity) {
+        this.quantity = Stock.calculateQuantity(this.quantity, quantity);
+    }
+}
@@ -0,0 +1,18 @@
+package com.loopers.domain.stock;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface StockBucketRepository {
+    // 재고를 bucket으로 나눈 상품인지 (주기적으로 갱신되는 목록 기준, 늦게 반영될 수 있음)
+    boolean isBucketed(Long refProductId);
+    List<StockBucket> saveAll(List<StockBucket> buckets);
+    // bucket 번호 오름차순으로 잠금
+    List<StockBucket> findAllByRefProductIdWithLock(Long refProductId);
+    void deleteAllByRefProductId(Long refProductId);
+    // 잠금 없이 주문 수량 이상 남은 bucket 번호 조회
+    List<Integer> findBucketNosWithQuantity(Long refProductId, int quantity);
+    boolean tryDecrement(Long refProductId, int bucketNo, int quantity);
+    Map<Long, Integer> sumQuantities(Collection<Long> refProductIds);
+}
@@ -0,0 +1,47 @@
+package com.loopers.domain.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * 여러 상품 재고 행을 항상 상품 ID 오름차순으로 잠근다.
+ * 요청마다 잠금 순서가 같으므로 같은 상품들을 반대 순서로 담은 주문끼리 서로를 기다리는 교착이 생기지 않는다.
+ */
+@RequiredArgsConstructor
+@Component
+public class StockLockCoordinator {
+    private final StockRepository stockRepository;
+
+    // 같은 상품 줄은 수량을 합치고 상품 ID 오름차순으로 정렬
+    public static <T> SortedMap<Long, Integer> mergeQuantities(
+            Collection<T> lines, Function<T, Long> productId, ToIntFunction<T> quantity) {
+        SortedMap<Long, Integer> merged = new TreeMap<>();
+        for (T line : lines) {
+            merged.merge(productId.apply(line), quantity.applyAsInt(line), Integer::sum);
+        }
+        return merged;
+    }
+
+    // IN ... ORDER BY ... FOR UPDATE 한 번으로 전체 재고 행을 잠금, 상품 ID 오름차순으로 반환 (재고가 없는 상품은 제외)
+    public Map<Long, Stock> lockAll(Collection<Long> productIds) {
+        List<Long> sortedIds = productIds.stream().distinct().sorted().toList();
+        if (sortedIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Stock> locked = new LinkedHashMap<>();
+        for (Stock stock : stockRepository.findAllByRefProductIdsWithLock(sortedIds)) {
+            locked.put(stock.getRefProductId(), stock);
+        }
+        return locked;
+    }
+}
@@ -1,10 +1,18 @@
 package com.loopers.domain.stock;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface StockRepository {
     Optional<Stock> findByRefProductIdWithLock(Long refProductId);
     Optional<Stock> findByRefProductId(Long refProductId);
+    List<Stock> findAllByRefProductIdIn(Collection<Long> refProductIds);
     Stock save(Stock stock);
     Optional<Stock> findById(Long stockId);
+    // 상품 ID 오름차순으로 잠금
+    List<Stock> findAllByRefProductIdsWithLock(Collection<Long> refProductIds);
+    // 차감하지 못한 상품 ID 목록 반환 (재고 부족 또는 재고 없음)
+    List<Long> tryDecrementAll(Map<Long, Integer> quantities);
 }
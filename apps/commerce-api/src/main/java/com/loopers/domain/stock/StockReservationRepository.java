@@ -0,0 +1,15 @@
+package com.loopers.domain.stock;
+
+import java.util.List;
+import java.util.Map;
+
+// 주문 단위 재고 예약 (예약 id는 주문번호)
+public interface StockReservationRepository {
+    boolean isEnabled();
+    // 모든 상품의 재고가 충분할 때만 한 번에 차감, 트랜잭션 안이면 커밋 시 확정 / 롤백 시 해제
+    void reserve(String reservationId, Map<Long, Integer> quantities);
+    void confirm(String reservationId);
+    void release(String reservationId);
+    void addAvailable(Long productId, int quantity);
+    List<String> findExpiredReservationIds(int limit);
+}
@@ -2,13 +2,25 @@ package com.loopers.domain.stock;
 
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
 @RequiredArgsConstructor
 @Component
 public class StockService {
     private final StockRepository stockRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final StockBucketRepository stockBucketRepository;
+    private final StockAvailabilityCache stockAvailabilityCache;
 
     public Stock getByRefProductIdWithLock(Long productId) {
         return stockRepository.findByRefProductIdWithLock(productId)
@@ -24,4 +36,178 @@ public class StockService {
         return stock;
     }
 
+    // 품절로 표시된 상품이 있으면 재고를 조회하지 않고 바로 거절
+    public void checkNotSoldOut(Collection<Long> productIds) {
+        for (Long productId : productIds) {
+            if (stockAvailabilityCache.isSoldOut(productId)) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "재고가 부족합니다. (상품 ID: " + productId + ")");
+            }
+        }
+    }
+
+    // 재입고, 품절 표시는 모든 인스턴스에서 해제
+    @Transactional
+    public Stock restock(Long productId, int quantity) {
+        Stock stock = getByRefProductIdWithLock(productId);
+        stock.increaseQuantity(quantity);
+        if (stockReservationRepository.isEnabled()) {
+            stockReservationRepository.addAvailable(productId, quantity);
+        }
+        stockAvailabilityCache.markAvailable(productId);
+        return stock;
+    }
+
+    // 조건부 UPDATE 한 번으로 주문 상품 재고를 차감, 하나라도 실패하면 예외로 트랜잭션 전체를 롤백
+    // 일반 상품은 batch 한 번으로, bucket으로 나눈 상품은 이어서 상품 ID 순으로 차감
+    public void decreaseAll(Map<Long, Integer> quantities) {
+        Map<Long, Integer> plain = new LinkedHashMap<>();
+        Map<Long, Integer> bucketed = new LinkedHashMap<>();
+        quantities.forEach((productId, quantity) ->
+                (stockBucketRepository.isBucketed(productId) ? bucketed : plain).put(productId, quantity));
+
+        List<Long> failed = plain.isEmpty() ? List.of() : stockRepository.tryDecrementAll(plain);
+        // 실패한 상품은 재고 부족 외에 다른 인스턴스에서 막 bucket으로 나뉜 경우도 있으므로 전체 재고로 다시 확인
+        for (Long productId : failed) {
+            decreaseWithLock(productId, plain.get(productId));
+        }
+        bucketed.forEach(this::decreaseFromBuckets);
+    }
+
+    // 임의의 bucket 하나를 차감하고, 남은 bucket이 없으면 상품 전체 재고를 잠가 나눠서 차감
+    private void decreaseFromBuckets(Long productId, int quantity) {
+        List<Integer> candidates = stockBucketRepository.findBucketNosWithQuantity(productId, quantity);
+        if (!candidates.isEmpty()) {
+            int bucketNo = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+            if (stockBucketRepository.tryDecrement(productId, bucketNo, quantity)) {
+                return;
+            }
+        }
+        decreaseWithLock(productId, quantity);
+    }
+
+    // stock 행 -> bucket 번호 순으로 잠그고 남은 수량을 모아 차감 (bucket 하나로는 부족하거나 아직 나누지 않은 상품)
+    private void decreaseWithLock(Long productId, int quantity) {
+        Stock stock = getByRefProductIdWithLock(productId);
+        List<StockBucket> buckets = stockBucketRepository.findAllByRefProductIdWithLock(productId);
+        int total = stock.getQuantity() + buckets.stream().mapToInt(StockBucket::getQuantity).sum();
+        if (total < quantity) {
+            if (total <= 0) {
+                // 잠근 상태로 읽은 커밋된 재고이므로 이 트랜잭션이 롤백돼도 품절
+                stockAvailabilityCache.markSoldOut(productId);
+            }
+            throw new CoreException(ErrorType.BAD_REQUEST, "재고가 부족합니다. (상품 ID: " + productId + ")");
+        }
+        if (total == quantity) {
+            stockAvailabilityCache.markSoldOutOnCommit(productId);
+        }
+
+        int remaining = quantity;
+        int fromStock = Math.min(Math.max(stock.getQuantity(), 0), remaining);
+        if (fromStock > 0) {
+            stock.updateQuantity(stock.getQuantity(), fromStock);
+            remaining -= fromStock;
+        }
+        for (StockBucket bucket : buckets) {
+            if (remaining == 0) {
+                break;
+            }
+            int fromBucket = Math.min(bucket.getQuantity(), remaining);
+            bucket.decreaseQuantity(fromBucket);
+            remaining -= fromBucket;
+        }
+    }
+
+    // 상품 재고를 bucketCount개의 bucket으로 고르게 나눔 (이미 나뉘어 있으면 다시 나눔)
+    // 재고 예약을 쓰면 주문이 bucket을 거치지 않고 outbox 증감분이 stock 행에만 반영되므로 나누지 않음
+    @Transactional
+    public List<StockBucket> splitIntoBuckets(Long productId, int bucketCount) {
+        if (stockReservationRepository.isEnabled()) {
+            throw new CoreException(ErrorType.CONFLICT, "재고 예약을 사용하는 중에는 bucket으로 나눌 수 없습니다.");
+        }
+        if (bucketCount < 2) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "bucket 수는 2 이상이어야 합니다.");
+        }
+        Stock stock = getByRefProductIdWithLock(productId);
+        int total = collectIntoStock(stock);
+
+        stock.updateQuantity(total, total);
+        List<StockBucket> buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(StockBucket.from(productId, i, total / bucketCount + (i < total % bucketCount ? 1 : 0)));
+        }
+        return stockBucketRepository.saveAll(buckets);
+    }
+
+    // bucket에 나눠 둔 재고를 stock 행으로 다시 합침
+    @Transactional
+    public Stock mergeBuckets(Long productId) {
+        Stock stock = getByRefProductIdWithLock(productId);
+        collectIntoStock(stock);
+        return stock;
+    }
+
+    // 상품별 전체 재고 (stock 행 + bucket 합계), 상품 수와 관계없이 stock IN 조회 1회
+    public Map<Long, Integer> getTotalQuantities(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Integer> bucketSums = stockBucketRepository.sumQuantities(productIds);
+        Map<Long, Integer> stockQuantities = new HashMap<>();
+        for (Stock stock : stockRepository.findAllByRefProductIdIn(productIds)) {
+            stockQuantities.put(stock.getRefProductId(), stock.getQuantity());
+        }
+        Map<Long, Integer> totals = new LinkedHashMap<>();
+        for (Long productId : productIds) {
+            Integer quantity = stockQuantities.get(productId);
+            if (quantity != null) {
+                totals.put(productId, quantity + bucketSums.getOrDefault(productId, 0));
+            }
+        }
+        return totals;
+    }
+
+    public int getTotalQuantity(Long productId) {
+        Integer total = getTotalQuantities(List.of(productId)).get(productId);
+        if (total == null) {
+            throw new CoreException(ErrorType.NOT_FOUND, "재고가 존재하지 않습니다.");
+        }
+        return total;
+    }
+
+    // 기존 bucket 수량을 stock 행으로 옮기고 bucket 삭제, 합친 전체 수량 반환
+    private int collectIntoStock(Stock stock) {
+        // 잠근 뒤 합계는 집계 쿼리로 읽음 (bucket은 JDBC로도 차감되므로 영속성 컨텍스트 값은 오래됐을 수 있음)
+        List<StockBucket> buckets = stockBucketRepository.findAllByRefProductIdWithLock(stock.getRefProductId());
+        int bucketTotal = stockBucketRepository.sumQuantities(List.of(stock.getRefProductId()))
+                .getOrDefault(stock.getRefProductId(), 0);
+        if (!buckets.isEmpty()) {
+            stockBucketRepository.deleteAllByRefProductId(stock.getRefProductId());
+        }
+        if (bucketTotal > 0) {
+            stock.increaseQuantity(bucketTotal);
+        }
+        return stock.getQuantity();
+    }
+
+    public boolean isReservationEnabled() {
+        return stockReservationRepository.isEnabled();
+    }
+
+    // 주문 상품 전체를 Redis에서 한 번에 예약 (행 잠금 없음)
+    public void reserve(String orderSeq, Map<Long, Integer> quantities) {
+        stockReservationRepository.reserve(orderSeq, quantities);
+    }
+
+    public void confirmReservation(String orderSeq) {
+        stockReservationRepository.confirm(orderSeq);
+    }
+
+    public void releaseReservation(String orderSeq) {
+        stockReservationRepository.release(orderSeq);
+    }
+
+    public List<String> getExpiredReservations(int limit) {
+        return stockReservationRepository.findExpiredReservationIds(limit);
+    }
+
 }
@@ -5,6 +5,8 @@ import com.loopers.domain.brand.BrandRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -17,6 +19,14 @@ public class BrandRepositoryImpl implements BrandRepository {
         return brandJpaRepository.findById(brandId);
     }
 
+    @Override
+    public List<Brand> findAllByIds(Collection<Long> brandIds) {
+        if (brandIds.isEmpty()) {
+            return List.of();
+        }
+        return brandJpaRepository.findAllById(brandIds);
+    }
+
     @Override
     public Brand save(Brand brand) {
         return brandJpaRepository.save(brand);
@@ -0,0 +1,8 @@
+package com.loopers.infrastructure.cache;
+
+// L1에 저장되는 값 + 적재에 걸린 시간(조기 갱신 확률 계산용)
+record CacheEntry(
+        Object value,
+        long loadNanos
+) {
+}
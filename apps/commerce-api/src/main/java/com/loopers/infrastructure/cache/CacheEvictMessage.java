@@ -0,0 +1,9 @@
+package com.loopers.infrastructure.cache;
+
+// 인스턴스 간 로컬 캐시 무효화 메시지 (key가 없으면 캐시 전체 삭제)
+public record CacheEvictMessage(
+        String origin,
+        String cacheName,
+        String key
+) {
+}
@@ -0,0 +1,9 @@
+package com.loopers.infrastructure.cache;
+
+import java.time.Duration;
+
+// 캐시 값별 TTL 결정 (L1, L2 공통 적용)
+@FunctionalInterface
+public interface CacheTtlPolicy {
+    Duration ttl(String cacheName, Object value);
+}
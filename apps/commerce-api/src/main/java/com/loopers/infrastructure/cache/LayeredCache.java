@@ -0,0 +1,395 @@
+package com.loopers.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * L1(Caffeine) -> L2(Redis) 순으로 조회하는 2단계 캐시.
+ * L2에는 record 타입 값만 JSON으로 저장하고, 그 외(Page, 엔티티)는 L1에만 저장한다.
+ * 삭제 시 다른 인스턴스의 L1도 지워지도록 pub/sub으로 무효화 메시지를 보낸다.
+ * 만료 시간은 {@link CacheTtlPolicy}로 값마다 결정된다.
+ *
+ * 같은 키의 동시 미스는 하나의 적재만 수행하고 나머지는 그 결과를 기다린다. (single-flight)
+ * 히트 시에는 XFetch 방식으로 만료가 가까울수록 높은 확률로 백그라운드 조기 갱신을 한다.
+ * 조기 갱신은 요청 밖에서 읽기 전용 트랜잭션으로 수행되므로 적재 함수는 요청 정보에 의존하지 않아야 한다.
+ * 적재하는 동안 같은 키가 무효화되면 적재한 값은 반환만 하고 저장하지 않는다.
+ */
+@Slf4j
+public class LayeredCache extends AbstractValueAdaptingCache {
+    private static final String KEY_PREFIX = "cache:";
+    private static final String ALLOWED_TYPE_PACKAGE = "com.loopers.";
+    // 적재 시간(ms)이 TTL(분~시간)보다 훨씬 짧아 만료 직전에만 갱신되지 않도록 TTL의 1%를 최소 적재 시간으로 봄
+    private static final double MIN_LOAD_TIME_RATIO = 0.01;
+    private static final int VERSION_STRIPES = 1024;
+
+    private final String name;
+    private final Cache<String, CacheEntry> localCache;
+    private final LayeredCacheManager cacheManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final LayeredCacheMetrics metrics;
+    private final CacheTtlPolicy ttlPolicy;
+    private final boolean remoteEnabled;
+    private final Executor refreshExecutor;
+    private final TransactionTemplate refreshTransaction;
+    private final double refreshBeta;
+    private final Map<String, CompletableFuture<CacheEntry>> loadsInFlight = new ConcurrentHashMap<>();
+    // 키별 무효화 버전 (키 해시 구간 단위라 다른 키의 무효화로도 오를 수 있지만, 그때는 저장을 건너뛸 뿐임)
+    private final AtomicLongArray evictVersions = new AtomicLongArray(VERSION_STRIPES);
+    private final AtomicLong clearVersion = new AtomicLong();
+
+    LayeredCache(
+            String name,
+            Cache<String, CacheEntry> localCache,
+            LayeredCacheManager cacheManager,
+            RedisTemplate<String, String> redisTemplate,
+            RedisTemplate<String, String> masterRedisTemplate,
+            ObjectMapper objectMapper,
+            LayeredCacheMetrics metrics,
+            CacheTtlPolicy ttlPolicy,
+            boolean remoteEnabled,
+            Executor refreshExecutor,
+            TransactionTemplate refreshTransaction,
+            double refreshBeta
+    ) {
+        super(false);
+        this.name = name;
+        this.localCache = localCache;
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.ttlPolicy = ttlPolicy;
+        this.remoteEnabled = remoteEnabled;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshTransaction = refreshTransaction;
+        this.refreshBeta = refreshBeta;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        CacheEntry entry = lookupEntry(String.valueOf(key));
+        return entry == null ? null : entry.value();
+    }
+
+    // @Cacheable(sync = true) 경로
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = String.valueOf(key);
+
+        CacheEntry entry = lookupEntry(cacheKey);
+        if (entry != null) {
+            if (shouldRefreshEarly(cacheKey, entry)) {
+                refreshAsync(key, cacheKey, valueLoader);
+            }
+            return (T) entry.value();
+        }
+        return (T) loadOnce(key, cacheKey, valueLoader).value();
+    }
+
+    // 여러 키를 L1 -> L2(MGET 1회) 순으로 조회, 없는 키는 결과에서 제외 (적재는 호출한 쪽에서)
+    public Map<String, Object> getAll(Collection<?> keys) {
+        Map<String, Object> found = new HashMap<>();
+        List<String> localMisses = new ArrayList<>();
+        for (Object key : keys) {
+            String cacheKey = String.valueOf(key);
+            CacheEntry entry = localCache.getIfPresent(cacheKey);
+            if (entry != null) {
+                metrics.localHit();
+                found.put(cacheKey, entry.value());
+            } else {
+                metrics.localMiss();
+                localMisses.add(cacheKey);
+            }
+        }
+        if (!remoteEnabled || localMisses.isEmpty()) {
+            return found;
+        }
+
+        List<String> jsons;
+        try {
+            jsons = redisTemplate.opsForValue().multiGet(localMisses.stream().map(this::remoteKey).toList());
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 일괄 조회 실패 [{}] - {}", name, e.getMessage());
+            return found;
+        }
+        for (int i = 0; i < localMisses.size(); i++) {
+            String cacheKey = localMisses.get(i);
+            CacheEntry entry = jsons == null ? null : deserialize(cacheKey, jsons.get(i));
+            if (entry != null) {
+                metrics.remoteHit();
+                localCache.put(cacheKey, entry);
+                found.put(cacheKey, entry.value());
+            } else {
+                metrics.remoteMiss();
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        store(String.valueOf(key), new CacheEntry(value, 0L));
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = String.valueOf(key);
+        // 진행 중인 적재가 저장하지 않도록 버전을 먼저 올림
+        bumpVersion(cacheKey);
+        localCache.invalidate(cacheKey);
+        if (remoteEnabled) {
+            runRemote(() -> masterRedisTemplate.delete(remoteKey(cacheKey)));
+            cacheManager.publishEvict(name, cacheKey);
+        }
+    }
+
+    @Override
+    public void clear() {
+        clearVersion.incrementAndGet();
+        localCache.invalidateAll();
+        if (remoteEnabled) {
+            runRemote(this::clearRemote);
+            cacheManager.publishEvict(name, null);
+        }
+    }
+
+    private CacheEntry lookupEntry(String cacheKey) {
+        CacheEntry entry = localCache.getIfPresent(cacheKey);
+        if (entry != null) {
+            metrics.localHit();
+            return entry;
+        }
+        metrics.localMiss();
+
+        if (!remoteEnabled) {
+            return null;
+        }
+
+        entry = readRemote(cacheKey);
+        if (entry != null) {
+            metrics.remoteHit();
+            localCache.put(cacheKey, entry);
+            return entry;
+        }
+        metrics.remoteMiss();
+        return null;
+    }
+
+    // 키별로 진행 중인 적재가 있으면 그 결과를 공유
+    private CacheEntry loadOnce(Object key, String cacheKey, Callable<?> valueLoader) {
+        CompletableFuture<CacheEntry> loading = new CompletableFuture<>();
+        CompletableFuture<CacheEntry> inFlight = loadsInFlight.putIfAbsent(cacheKey, loading);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                throw new ValueRetrievalException(key, valueLoader, e.getCause());
+            }
+        }
+
+        try {
+            long version = version(cacheKey);
+            long startedAt = System.nanoTime();
+            Object value = valueLoader.call();
+            CacheEntry loaded = new CacheEntry(value, System.nanoTime() - startedAt);
+            if (value != null) {
+                storeIfNotEvicted(cacheKey, loaded, version);
+            }
+            loading.complete(loaded);
+            return loaded;
+        } catch (Exception e) {
+            loading.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } catch (Error e) {
+            // 완료하지 않으면 같은 키를 기다리던 요청이 join()에서 계속 대기함
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadsInFlight.remove(cacheKey, loading);
+        }
+    }
+
+    // XFetch: 남은 TTL <= -적재시간 * beta * ln(rand) 이면 조기 갱신 (적재시간은 최소 TTL의 1%)
+    private boolean shouldRefreshEarly(String cacheKey, CacheEntry entry) {
+        if (entry.loadNanos() <= 0 || loadsInFlight.containsKey(cacheKey)) {
+            return false;
+        }
+        Optional<Duration> remaining = localCache.policy().expireVariably()
+                .flatMap(policy -> policy.getExpiresAfter(cacheKey));
+        if (remaining.isEmpty()) {
+            return false;
+        }
+        double loadNanos = Math.max(entry.loadNanos(), ttlPolicy.ttl(name, entry.value()).toNanos() * MIN_LOAD_TIME_RATIO);
+        double gap = -loadNanos * refreshBeta * Math.log(ThreadLocalRandom.current().nextDouble());
+        return gap >= remaining.get().toNanos();
+    }
+
+    private void refreshAsync(Object key, String cacheKey, Callable<?> valueLoader) {
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    if (refreshTransaction == null) {
+                        loadOnce(key, cacheKey, valueLoader);
+                    } else {
+                        refreshTransaction.executeWithoutResult(status -> loadOnce(key, cacheKey, valueLoader));
+                    }
+                    metrics.earlyRefresh();
+                } catch (RuntimeException e) {
+                    log.warn("캐시 조기 갱신 실패 [{}:{}] - {}", name, cacheKey, e.getMessage());
+                }
+            });
+        } catch (RuntimeException e) {
+            // 갱신 작업 큐가 가득 찬 경우 기존 값으로 응답
+        }
+    }
+
+    private void store(String cacheKey, CacheEntry entry) {
+        localCache.put(cacheKey, entry);
+        writeRemote(cacheKey, entry);
+    }
+
+    // 적재를 시작한 뒤 무효화됐으면 이전 데이터로 읽었을 수 있으므로 저장하지 않음
+    private void storeIfNotEvicted(String cacheKey, CacheEntry entry, long version) {
+        if (version(cacheKey) != version) {
+            return;
+        }
+        store(cacheKey, entry);
+        if (version(cacheKey) != version) {
+            // 저장하는 사이 무효화가 먼저 끝난 경우 방금 저장한 값을 지움
+            localCache.invalidate(cacheKey);
+            if (remoteEnabled) {
+                runRemote(() -> masterRedisTemplate.delete(remoteKey(cacheKey)));
+            }
+        }
+    }
+
+    // 다른 인스턴스에서 온 무효화 메시지 처리 (L2는 발행한 쪽에서 이미 삭제)
+    void evictLocal(String key) {
+        if (key == null) {
+            clearVersion.incrementAndGet();
+            localCache.invalidateAll();
+        } else {
+            bumpVersion(key);
+            localCache.invalidate(key);
+        }
+    }
+
+    // 두 값 모두 증가만 하므로 합이 같으면 그 사이 무효화가 없었음
+    private long version(String cacheKey) {
+        return clearVersion.get() + evictVersions.get(stripe(cacheKey));
+    }
+
+    private void bumpVersion(String cacheKey) {
+        evictVersions.incrementAndGet(stripe(cacheKey));
+    }
+
+    private static int stripe(String cacheKey) {
+        return Math.floorMod(cacheKey.hashCode(), VERSION_STRIPES);
+    }
+
+    private CacheEntry readRemote(String cacheKey) {
+        try {
+            return deserialize(cacheKey, redisTemplate.opsForValue().get(remoteKey(cacheKey)));
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 조회 실패 [{}:{}] - {}", name, cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private CacheEntry deserialize(String cacheKey, String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            JsonNode entry = objectMapper.readTree(json);
+            String type = entry.get("type").asText();
+            if (!type.startsWith(ALLOWED_TYPE_PACKAGE)) {
+                return null;
+            }
+            Object value = objectMapper.treeToValue(entry.get("payload"), Class.forName(type));
+            return new CacheEntry(value, entry.path("loadNanos").asLong(0L));
+        } catch (Exception e) {
+            log.warn("L2 캐시 값 해석 실패 [{}:{}] - {}", name, cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String cacheKey, CacheEntry cacheEntry) {
+        Object value = cacheEntry.value();
+        if (!remoteEnabled || !value.getClass().isRecord()) {
+            return;
+        }
+        runRemote(() -> {
+            ObjectNode entry = objectMapper.createObjectNode();
+            entry.put("type", value.getClass().getName());
+            entry.put("loadNanos", cacheEntry.loadNanos());
+            entry.set("payload", objectMapper.valueToTree(value));
+            masterRedisTemplate.opsForValue().set(remoteKey(cacheKey), entry.toString(), ttlPolicy.ttl(name, value));
+        });
+    }
+
+    private void clearRemote() {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + name + ":*").count(1000).build();
+        try (Cursor<String> cursor = masterRedisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        if (!keys.isEmpty()) {
+            masterRedisTemplate.delete(keys);
+        }
+    }
+
+    // L2 장애가 요청 실패로 이어지지 않도록 로그만 남김
+    private void runRemote(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 반영 실패 [{}] - {}", name, e.getMessage());
+        }
+    }
+
+    private String remoteKey(String cacheKey) {
+        return KEY_PREFIX + name + ":" + cacheKey;
+    }
+}
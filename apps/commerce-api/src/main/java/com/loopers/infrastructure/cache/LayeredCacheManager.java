@@ -0,0 +1,170 @@
+package com.loopers.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 캐시 이름별 {@link LayeredCache}를 관리하고, 무효화 메시지를 발행/수신한다.
+ * 자기 자신이 보낸 메시지는 origin(인스턴스 id)으로 걸러낸다.
+ */
+@Slf4j
+public class LayeredCacheManager implements CacheManager, MessageListener {
+    public static final String EVICT_CHANNEL = "cache:evict";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, LayeredCache> caches = new LinkedHashMap<>();
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean remoteEnabled;
+
+    // 조기 갱신 전용 스레드 풀 (큐가 가득 차면 갱신을 건너뛰고 기존 값으로 응답)
+    private final ThreadPoolExecutor refreshExecutor = new ThreadPoolExecutor(
+            1, 4, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(256),
+            daemonThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy()
+    );
+
+    public LayeredCacheManager(
+            Collection<String> cacheNames,
+            RedisTemplate<String, String> redisTemplate,
+            RedisTemplate<String, String> masterRedisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            long localMaximumSize,
+            CacheTtlPolicy ttlPolicy,
+            boolean remoteEnabled,
+            PlatformTransactionManager transactionManager,
+            double refreshBeta
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.remoteEnabled = remoteEnabled;
+        // 조기 갱신은 요청 트랜잭션 밖에서 실행되므로 요청과 같은 일관된 읽기를 위해 읽기 전용 트랜잭션으로 감쌈
+        TransactionTemplate refreshTransaction = null;
+        if (transactionManager != null) {
+            refreshTransaction = new TransactionTemplate(transactionManager);
+            refreshTransaction.setReadOnly(true);
+        }
+
+        for (String cacheName : cacheNames) {
+            com.github.benmanes.caffeine.cache.Cache<String, CacheEntry> localCache = Caffeine.newBuilder()
+                    .maximumSize(localMaximumSize)
+                    .expireAfter(expiry(cacheName, ttlPolicy))
+                    .recordStats()
+                    .build();
+            caches.put(cacheName, new LayeredCache(
+                    cacheName,
+                    localCache,
+                    this,
+                    redisTemplate,
+                    masterRedisTemplate,
+                    objectMapper,
+                    new LayeredCacheMetrics(meterRegistry, cacheName),
+                    ttlPolicy,
+                    remoteEnabled,
+                    refreshExecutor,
+                    refreshTransaction,
+                    refreshBeta
+            ));
+        }
+    }
+
+    // 엔트리마다 값에 따라 만료 시간 결정, 조회 시에는 만료 시간 유지
+    private static Expiry<String, CacheEntry> expiry(String cacheName, CacheTtlPolicy ttlPolicy) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String key, CacheEntry entry, long currentTime) {
+                return ttlPolicy.ttl(cacheName, entry.value()).toNanos();
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, CacheEntry entry, long currentTime, long currentDuration) {
+                return ttlPolicy.ttl(cacheName, entry.value()).toNanos();
+            }
+
+            @Override
+            public long expireAfterRead(String key, CacheEntry entry, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "cache-refresh-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // 종료 시 대기 중인 조기 갱신은 버림 (기존 값이 만료되면 다음 요청에서 적재)
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.get(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    public boolean isRemoteEnabled() {
+        return remoteEnabled;
+    }
+
+    void publishEvict(String cacheName, String key) {
+        try {
+            String message = objectMapper.writeValueAsString(new CacheEvictMessage(instanceId, cacheName, key));
+            masterRedisTemplate.convertAndSend(EVICT_CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 발행 실패 [{}:{}] - {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CacheEvictMessage evictMessage = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), CacheEvictMessage.class);
+            if (instanceId.equals(evictMessage.origin())) {
+                return;
+            }
+            LayeredCache cache = caches.get(evictMessage.cacheName());
+            if (cache != null) {
+                cache.evictLocal(evictMessage.key());
+            }
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 처리 실패 - {}", e.getMessage());
+        }
+    }
+}
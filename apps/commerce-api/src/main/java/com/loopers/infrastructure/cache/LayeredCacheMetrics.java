@@ -0,0 +1,53 @@
+package com.loopers.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 캐시 계층(L1: Caffeine, L2: Redis)별 hit/miss 카운터 + 조기 갱신 횟수
+class LayeredCacheMetrics {
+    private static final String METRIC_NAME = "cache.layered.gets";
+
+    private final Counter localHit;
+    private final Counter localMiss;
+    private final Counter remoteHit;
+    private final Counter remoteMiss;
+    private final Counter earlyRefresh;
+
+    LayeredCacheMetrics(MeterRegistry meterRegistry, String cacheName) {
+        this.localHit = counter(meterRegistry, cacheName, "l1", "hit");
+        this.localMiss = counter(meterRegistry, cacheName, "l1", "miss");
+        this.remoteHit = counter(meterRegistry, cacheName, "l2", "hit");
+        this.remoteMiss = counter(meterRegistry, cacheName, "l2", "miss");
+        this.earlyRefresh = Counter.builder("cache.layered.early-refreshes")
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+    }
+
+    void localHit() {
+        localHit.increment();
+    }
+
+    void localMiss() {
+        localMiss.increment();
+    }
+
+    void remoteHit() {
+        remoteHit.increment();
+    }
+
+    void remoteMiss() {
+        remoteMiss.increment();
+    }
+
+    void earlyRefresh() {
+        earlyRefresh.increment();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String cacheName, String layer, String result) {
+        return Counter.builder(METRIC_NAME)
+                .tag("cache", cacheName)
+                .tag("layer", layer)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
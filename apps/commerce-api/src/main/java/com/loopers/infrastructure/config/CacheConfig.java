@@ -1,35 +1,90 @@
 package com.loopers.infrastructure.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.product.out.ProductDetailInfo;
+import com.loopers.domain.BaseEntity;
+import com.loopers.config.redis.RedisConfig;
 import com.loopers.config.redis.RedisProperties;
+import com.loopers.infrastructure.cache.CacheTtlPolicy;
+import com.loopers.infrastructure.cache.LayeredCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 
 @Configuration
 @EnableCaching
 @EnableConfigurationProperties(RedisProperties.class)
 public class CacheConfig {
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(30);
+    private static final Duration RECENT_PRODUCT_TTL = Duration.ofMinutes(10);
+    private static final Duration OLD_PRODUCT_TTL = Duration.ofHours(2);
 
+    // L1(Caffeine) + L2(Redis) 2단계 캐시
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    public LayeredCacheManager cacheManager(
+            RedisTemplate<String, String> redisTemplate,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${cache.layered.remote-enabled:true}") boolean remoteEnabled,
+            @Value("${cache.layered.refresh-beta:1.0}") double refreshBeta
+    ) {
+        return new LayeredCacheManager(
+                Arrays.asList("productDetail", "productList"),
+                redisTemplate,
+                masterRedisTemplate,
+                objectMapper,
+                meterRegistry,
+                10000,                  // 인스턴스당 최대 10,000개 엔트리
+                productFreshnessTtlPolicy(),
+                remoteEnabled,
+                transactionManager,
+                refreshBeta
+        );
+    }
 
-        // 기본 Caffeine 설정
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(10000)  // 최대 10,000개 엔트리
-                .expireAfterWrite(Duration.ofMinutes(30))  // 기본 TTL 30분
-                .recordStats());  // 통계 수집
+    // 최근(3개월 이내) 상품은 변경이 잦아 짧게, 오래된 상품은 길게 캐싱
+    private CacheTtlPolicy productFreshnessTtlPolicy() {
+        return (cacheName, value) -> {
+            LocalDateTime createdAt = null;
+            if (value instanceof ProductDetailInfo info) {
+                createdAt = info.createdAt();
+            } else if (value instanceof BaseEntity entity) {
+                createdAt = entity.getCreatedAt();
+            }
 
-        // 캐시별 개별 설정도 가능
-        cacheManager.setCacheNames(Arrays.asList("productDetail", "productList"));
+            if (createdAt == null) {
+                return DEFAULT_TTL;
+            }
+            return createdAt.isAfter(LocalDateTime.now().minusMonths(3)) ? RECENT_PRODUCT_TTL : OLD_PRODUCT_TTL;
+        };
+    }
 
-        return cacheManager;
+    // 다른 인스턴스의 캐시 무효화 메시지 구독
+    @Bean
+    public RedisMessageListenerContainer cacheEvictListenerContainer(
+            LettuceConnectionFactory lettuceConnectionFactory,
+            LayeredCacheManager cacheManager
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(lettuceConnectionFactory);
+        if (cacheManager.isRemoteEnabled()) {
+            container.addMessageListener(cacheManager, new ChannelTopic(LayeredCacheManager.EVICT_CHANNEL));
+        }
+        return container;
     }
 }
@@ -0,0 +1,10 @@
+package com.loopers.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // @Scheduled 어노테이션을 위한 설정, 스케줄러 스레드 수는 spring.task.scheduling.pool.size
+}
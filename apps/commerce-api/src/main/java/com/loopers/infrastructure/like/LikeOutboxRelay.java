@@ -0,0 +1,220 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.redis.RedisConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좋아요 outbox(Redis stream)를 읽어 like 테이블에 반영한다.
+ * consumer group으로 읽고 DB 반영 후에만 ack 하므로, 반영 전에 종료되면 재기동 시 pending 항목부터 다시 처리한다.
+ * 종료된 다른 인스턴스가 ack 하지 못한 항목은 일정 시간이 지나면 가져와 대신 반영한다.
+ * 사용자 set이 있으면 작업 순서 대신 Redis의 현재 상태로 맞추므로 순서와 중복 처리에 영향받지 않고,
+ * set이 지워진 경우(evictAll)에는 항목에 기록된 마지막 작업을 그대로 반영한다.
+ */
+@Slf4j
+@Component
+public class LikeOutboxRelay {
+    private static final String GROUP = "like-outbox-relay";
+    private static final int BATCH_SIZE = 500;
+    // 이 시간 넘게 ack 되지 않은 다른 consumer의 항목은 종료된 인스턴스의 것으로 보고 가져옴
+    private static final Duration CLAIM_MIN_IDLE = Duration.ofSeconds(30);
+    private static final String INSERT_LIKE = """
+            INSERT IGNORE INTO `like` (ref_user_id, ref_product_id, version, created_at, updated_at)
+            VALUES (?, ?, 0, ?, ?)
+            """;
+    private static final String DELETE_LIKE = "DELETE FROM `like` WHERE ref_user_id = ? AND ref_product_id = ?";
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final String consumerName;
+    private volatile boolean groupReady = false;
+
+    public LikeOutboxRelay(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            JdbcTemplate jdbcTemplate,
+            @Value("${like.redis.enabled:true}") boolean enabled
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.consumerName = "relay-" + hostName();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+        ensureGroup();
+    }
+
+    @Scheduled(fixedDelayString = "${like.outbox.relay-interval-ms:500}")
+    public synchronized void relay() {
+        if (!enabled || !ensureGroup()) {
+            return;
+        }
+        try {
+            claimIdle();
+            List<MapRecord<String, Object, Object>> records = next();
+            if (!records.isEmpty()) {
+                apply(records);
+            }
+        } catch (RuntimeException e) {
+            log.warn("좋아요 outbox 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    // Redis 좋아요 상태를 지우기 전(대량 적재 등) 쌓인 항목을 모두 반영, 실패하면 예외를 그대로 전달
+    public synchronized void drain() {
+        if (!enabled || !ensureGroup()) {
+            return;
+        }
+        List<MapRecord<String, Object, Object>> records;
+        while (!(records = next()).isEmpty()) {
+            apply(records);
+        }
+    }
+
+    // 그룹 생성에 실패하면(Redis 장애 등) 다음 주기에 다시 시도
+    private boolean ensureGroup() {
+        if (groupReady) {
+            return true;
+        }
+        try {
+            // 아직 outbox 항목이 없어도 그룹이 만들어지도록 stream도 함께 생성 (MKSTREAM)
+            masterRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands().xGroupCreate(
+                    LikeStateRepositoryImpl.KEY_OUTBOX.getBytes(StandardCharsets.UTF_8), GROUP, ReadOffset.from("0"), true));
+        } catch (DataAccessException e) {
+            if (!isBusyGroup(e)) {
+                log.warn("좋아요 outbox consumer group 생성 실패: {}", e.getMessage());
+                return false;
+            }
+        }
+        groupReady = true;
+        return true;
+    }
+
+    // 종료된 인스턴스가 읽고 ack 하지 못한 항목을 가져와 이 consumer의 pending 항목으로 만듦
+    private void claimIdle() {
+        StreamOperations<String, Object, Object> streamOps = masterRedisTemplate.opsForStream();
+        RecordId[] idleIds = streamOps.pending(LikeStateRepositoryImpl.KEY_OUTBOX, GROUP, Range.unbounded(), BATCH_SIZE).stream()
+                .filter(message -> !consumerName.equals(message.getConsumerName()))
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(CLAIM_MIN_IDLE) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (idleIds.length > 0) {
+            streamOps.claim(LikeStateRepositoryImpl.KEY_OUTBOX, GROUP, consumerName, CLAIM_MIN_IDLE, idleIds);
+            log.info("좋아요 outbox 미반영 항목 {}건을 가져옴", idleIds.length);
+        }
+    }
+
+    // 이전에 읽고 반영하지 못한 항목 먼저, 없으면 새 항목
+    private List<MapRecord<String, Object, Object>> next() {
+        List<MapRecord<String, Object, Object>> records = read(ReadOffset.from("0"));
+        return records.isEmpty() ? read(ReadOffset.lastConsumed()) : records;
+    }
+
+    private List<MapRecord<String, Object, Object>> read(ReadOffset offset) {
+        List<MapRecord<String, Object, Object>> records = masterRedisTemplate.opsForStream().read(
+                Consumer.from(GROUP, consumerName),
+                StreamReadOptions.empty().count(BATCH_SIZE),
+                StreamOffset.create(LikeStateRepositoryImpl.KEY_OUTBOX, offset)
+        );
+        return records == null ? List.of() : records;
+    }
+
+    private void apply(List<MapRecord<String, Object, Object>> records) {
+        // 같은 사용자/상품의 항목은 마지막 작업만 남김 (stream 순서)
+        Map<LikeKey, LikeEntry> lastEntries = new LinkedHashMap<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> value = record.getValue();
+            lastEntries.put(
+                    new LikeKey(Long.valueOf(String.valueOf(value.get("userId"))), Long.valueOf(String.valueOf(value.get("productId")))),
+                    new LikeEntry(String.valueOf(value.get("op")), likedAt(value.get("at")))
+            );
+        }
+
+        lastEntries.forEach((key, entry) -> {
+            Boolean liked = currentState(key);
+            if (liked == null) {
+                liked = LikeStateRepositoryImpl.OP_LIKE.equals(entry.op());
+            }
+            if (liked) {
+                jdbcTemplate.update(INSERT_LIKE, key.userId(), key.productId(), entry.at(), entry.at());
+            } else {
+                jdbcTemplate.update(DELETE_LIKE, key.userId(), key.productId());
+            }
+        });
+
+        RecordId[] recordIds = records.stream().map(MapRecord::getId).toArray(RecordId[]::new);
+        StreamOperations<String, Object, Object> streamOps = masterRedisTemplate.opsForStream();
+        streamOps.acknowledge(LikeStateRepositoryImpl.KEY_OUTBOX, GROUP, recordIds);
+        streamOps.delete(LikeStateRepositoryImpl.KEY_OUTBOX, recordIds);
+    }
+
+    // 사용자 set의 현재 좋아요 여부, set이 없으면(적재 전이거나 지워짐) null
+    private Boolean currentState(LikeKey key) {
+        String member = String.valueOf(key.productId());
+        Map<Object, Boolean> memberships = masterRedisTemplate.opsForSet()
+                .isMember(LikeStateRepositoryImpl.userKey(key.userId()), LikeStateRepositoryImpl.LOADED_MARKER, member);
+        if (memberships == null || !Boolean.TRUE.equals(memberships.get(LikeStateRepositoryImpl.LOADED_MARKER))) {
+            return null;
+        }
+        return Boolean.TRUE.equals(memberships.get(member));
+    }
+
+    // 좋아요를 누른 시각 (시각이 기록되지 않은 이전 항목은 반영 시각)
+    private static Timestamp likedAt(Object at) {
+        if (at == null) {
+            return new Timestamp(System.currentTimeMillis());
+        }
+        return new Timestamp(Long.parseLong(String.valueOf(at)));
+    }
+
+    private static boolean isBusyGroup(DataAccessException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains("BUSYGROUP");
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "local";
+        }
+    }
+
+    private record LikeKey(Long userId, Long productId) {
+    }
+
+    private record LikeEntry(String op, Timestamp at) {
+    }
+}
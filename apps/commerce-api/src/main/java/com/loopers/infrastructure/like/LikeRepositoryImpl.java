@@ -2,12 +2,16 @@ package com.loopers.infrastructure.like;
 
 import com.loopers.domain.like.Like;
 import com.loopers.domain.like.LikeRepository;
+import com.loopers.domain.like.LikedProductCursorPage;
 import com.loopers.domain.like.QLike;
 import com.loopers.domain.like.dto.LikedProductDto;
+import com.loopers.domain.like.vo.LikedProductCursor;
 import com.loopers.domain.product.QProduct;
+import com.loopers.domain.product.QProductListView;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -15,10 +19,10 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
-import static com.querydsl.jpa.JPAExpressions.select;
-
 @RequiredArgsConstructor
 @Component
 public class LikeRepositoryImpl implements LikeRepository {
@@ -46,11 +50,6 @@ public class LikeRepositoryImpl implements LikeRepository {
         QLike like = QLike.like;
         QProduct product = QProduct.product;
 
-        // 서브쿼리로 상품별 좋아요 수 집계
-        JPQLQuery<Long> likeCountSubQuery = select(like.count())
-                .from(like)
-                .where(like.refProductId.eq(product.id));
-
         List<LikedProductDto> content = queryFactory
                 .select(Projections.constructor(LikedProductDto.class,
                         like.id,                        // 좋아요 ID
@@ -60,7 +59,7 @@ public class LikeRepositoryImpl implements LikeRepository {
                         product.sellingPrice.value,   // 할인가
                         product.saleStatus.stringValue(), // 판매상태 (enum string)
                         Expressions.asBoolean(true),  // 좋아요 여부 (조회하는 userId 기준이니까 항상 true)
-                        likeCountSubQuery              // 좋아요 수 (서브쿼리)
+                        product.likeCount              // 좋아요 수 (비정규화 컬럼)
                 ))
                 .from(like)
                 .join(product).on(like.refProductId.eq(product.id))
@@ -80,6 +79,57 @@ public class LikeRepositoryImpl implements LikeRepository {
         return new PageImpl<>(content, pageable, total);
     }
 
+    // (사용자, 좋아요 일시, 상품 id) 인덱스만으로 범위를 찾고 상품 정보는 목록 테이블에서 PK로 조회
+    @Override
+    public LikedProductCursorPage findLikedProductsByRefUserIdAndCursor(Long refUserId, LikedProductCursor cursor, int size) {
+        QLike like = QLike.like;
+        QProductListView view = QProductListView.productListView;
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회 (COUNT 쿼리 없음)
+        List<Tuple> rows = queryFactory
+                .select(like.id,
+                        like.createdAt,
+                        view.productId,
+                        view.name,
+                        view.originalPrice,
+                        view.sellingPrice,
+                        view.saleStatus,
+                        view.likeCount)
+                .from(like)
+                .join(view).on(like.refProductId.eq(view.productId))
+                .where(
+                        like.refUserId.eq(refUserId),
+                        cursorCondition(cursor, like)
+                )
+                .orderBy(like.createdAt.desc(), like.refProductId.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        List<Tuple> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        List<LikedProductDto> content = pageRows.stream()
+                .map(row -> new LikedProductDto(
+                        row.get(like.id),
+                        row.get(view.productId),
+                        row.get(view.name),
+                        row.get(view.originalPrice),
+                        row.get(view.sellingPrice),
+                        row.get(view.saleStatus).name(),
+                        true,
+                        row.get(view.likeCount)
+                ))
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new LikedProductCursor(last.get(like.createdAt), last.get(view.productId)).encode();
+        }
+
+        return new LikedProductCursorPage(content, size, nextCursor, hasNext);
+    }
+
     @Override
     public long countLikeByProductId(Long productId) {
         QLike like = QLike.like;
@@ -90,6 +140,17 @@ public class LikeRepositoryImpl implements LikeRepository {
                 .fetchOne();
     }
 
+    // 유니크 인덱스 (ref_user_id, ref_product_id)로 IN 조회 1회
+    @Override
+    public List<Long> findLikedProductIds(Long refUserId, Collection<Long> productIds) {
+        QLike like = QLike.like;
+        return queryFactory
+                .select(like.refProductId)
+                .from(like)
+                .where(like.refUserId.eq(refUserId), like.refProductId.in(productIds))
+                .fetch();
+    }
+
     @Override
     public List<Like> findAllByProductId(Long productId1) {
         return likeJpaRepository.findAllByRefProductId(productId1);
@@ -105,4 +166,12 @@ public class LikeRepositoryImpl implements LikeRepository {
         likeJpaRepository.deleteAll();
     }
 
+    private BooleanExpression cursorCondition(LikedProductCursor cursor, QLike like) {
+        if (cursor == null) {
+            return null;
+        }
+        LocalDateTime createdAt = cursor.createdAt();
+        return like.createdAt.lt(createdAt)
+                .or(like.createdAt.eq(createdAt).and(like.refProductId.lt(cursor.productId())));
+    }
 }
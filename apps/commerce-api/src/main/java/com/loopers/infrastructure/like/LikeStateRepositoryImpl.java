@@ -0,0 +1,237 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.LikeStateRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Redis 우선 좋아요 저장소.
+ * 상태 확인, 변경, 좋아요 수 증감, outbox 기록을 Lua 스크립트 하나로 원자적으로 수행한다. (요청당 Redis 1회)
+ * like 테이블 반영은 LikeOutboxRelay가 outbox stream을 읽어 비동기로 처리한다.
+ */
+@Component
+public class LikeStateRepositoryImpl implements LikeStateRepository {
+    static final String KEY_USER_PREFIX = "like:user:";
+    static final String KEY_OUTBOX = "like:outbox";
+    private static final String KEY_PRODUCT_COUNT_PREFIX = "like:product:count:";
+    // 좋아요가 없는 사용자도 set이 존재하도록 넣어두는 값 (상품 id로 쓰이지 않음)
+    static final String LOADED_MARKER = "0";
+    private static final int SCAN_COUNT = 1000;
+
+    static final String OP_LIKE = "LIKE";
+    private static final String OP_UNLIKE = "UNLIKE";
+
+    // KEYS: 사용자 set, 상품 좋아요 수, outbox / ARGV: 상품 id, 사용자 id, 작업, 현재 좋아요 수(카운터 초기값), 요청 시각(ms)
+    // 반환: 1 변경됨, 0 이미 같은 상태, -1 사용자 set 미적재
+    private static final RedisScript<Long> TOGGLE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local changed
+            if ARGV[3] == 'LIKE' then
+                changed = redis.call('SADD', KEYS[1], ARGV[1])
+            else
+                changed = redis.call('SREM', KEYS[1], ARGV[1])
+            end
+            if changed == 0 then
+                return 0
+            end
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                redis.call('SET', KEYS[2], ARGV[4])
+            end
+            if ARGV[3] == 'LIKE' then
+                redis.call('INCR', KEYS[2])
+            else
+                redis.call('DECR', KEYS[2])
+            end
+            redis.call('XADD', KEYS[3], '*', 'op', ARGV[3], 'userId', ARGV[2], 'productId', ARGV[1], 'at', ARGV[5])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public LikeStateRepositoryImpl(
+            RedisTemplate<String, String> redisTemplate,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            JdbcTemplate jdbcTemplate,
+            @Value("${like.redis.enabled:true}") boolean enabled
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public boolean like(Long userId, Long productId, long currentLikeCount) {
+        return toggle(OP_LIKE, userId, productId, currentLikeCount);
+    }
+
+    @Override
+    public boolean unlike(Long userId, Long productId, long currentLikeCount) {
+        return toggle(OP_UNLIKE, userId, productId, currentLikeCount);
+    }
+
+    // 상품별 좋아요 수 (MGET 1회), 카운터가 없는 상품은 결과에서 제외
+    @Override
+    public Map<Long, Long> findLikeCounts(Collection<Long> productIds) {
+        Map<Long, Long> likeCounts = new HashMap<>();
+        if (!enabled || productIds.isEmpty()) {
+            return likeCounts;
+        }
+
+        List<Long> ids = new ArrayList<>(productIds);
+        List<String> values = redisTemplate.opsForValue()
+                .multiGet(ids.stream().map(id -> KEY_PRODUCT_COUNT_PREFIX + id).toList());
+        if (values == null) {
+            return likeCounts;
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            if (values.get(i) != null) {
+                likeCounts.put(ids.get(i), Math.max(0L, Long.parseLong(values.get(i))));
+            }
+        }
+        return likeCounts;
+    }
+
+    // SMISMEMBER 1회로 좋아요 여부 확인, 적재 표시값도 함께 조회해 사용자 set이 없으면 empty 반환 (DB로 대체)
+    // 방금 누른 좋아요가 replica 지연으로 빠져 보이지 않도록 master에서 조회
+    @Override
+    public Optional<Set<Long>> findLikedProductIds(Long userId, Collection<Long> productIds) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        Object[] members = new Object[productIds.size() + 1];
+        members[0] = LOADED_MARKER;
+        int index = 1;
+        for (Long productId : productIds) {
+            members[index++] = String.valueOf(productId);
+        }
+
+        Map<Object, Boolean> memberships = masterRedisTemplate.opsForSet().isMember(userKey(userId), members);
+        if (memberships == null || !Boolean.TRUE.equals(memberships.get(LOADED_MARKER))) {
+            return Optional.empty();
+        }
+
+        Set<Long> likedProductIds = new HashSet<>();
+        for (Long productId : productIds) {
+            if (Boolean.TRUE.equals(memberships.get(String.valueOf(productId)))) {
+                likedProductIds.add(productId);
+            }
+        }
+        return Optional.of(likedProductIds);
+    }
+
+    // relay는 반영한 항목을 stream에서 지우므로 남아 있는 항목이 곧 반영 전 변경
+    @Override
+    public Optional<Set<Long>> findUnrelayedProductIds(int limit) {
+        if (!enabled) {
+            return Optional.of(Set.of());
+        }
+
+        List<MapRecord<String, Object, Object>> records = masterRedisTemplate.opsForStream()
+                .range(KEY_OUTBOX, Range.unbounded(), Limit.limit().count(limit + 1));
+        if (records == null) {
+            return Optional.of(Set.of());
+        }
+        if (records.size() > limit) {
+            return Optional.empty();
+        }
+
+        Set<Long> productIds = new HashSet<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            productIds.add(Long.valueOf(String.valueOf(record.getValue().get("productId"))));
+        }
+        return Optional.of(productIds);
+    }
+
+    // KEYS 대신 SCAN으로 나눠 찾아 삭제 (Redis를 오래 막지 않도록)
+    @Override
+    public void evictAll() {
+        if (!enabled) {
+            return;
+        }
+        deleteByPattern(KEY_USER_PREFIX + "*");
+        deleteByPattern(KEY_PRODUCT_COUNT_PREFIX + "*");
+    }
+
+    private void deleteByPattern(String pattern) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build();
+        List<String> keys = new ArrayList<>(SCAN_COUNT);
+        try (Cursor<String> cursor = masterRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == SCAN_COUNT) {
+                    masterRedisTemplate.delete(keys);
+                    keys.clear();
+                }
+            }
+        }
+        if (!keys.isEmpty()) {
+            masterRedisTemplate.delete(keys);
+        }
+    }
+
+    private boolean toggle(String op, Long userId, Long productId, long currentLikeCount) {
+        Long result = execute(op, userId, productId, currentLikeCount);
+        if (result != null && result < 0) {
+            // 처음 요청한 사용자는 DB의 좋아요 목록으로 set을 채운 뒤 한 번 더 실행
+            loadUserLikes(userId);
+            result = execute(op, userId, productId, currentLikeCount);
+        }
+        return result != null && result > 0;
+    }
+
+    private Long execute(String op, Long userId, Long productId, long currentLikeCount) {
+        return masterRedisTemplate.execute(
+                TOGGLE_SCRIPT,
+                List.of(userKey(userId), KEY_PRODUCT_COUNT_PREFIX + productId, KEY_OUTBOX),
+                String.valueOf(productId), String.valueOf(userId), op, String.valueOf(currentLikeCount),
+                String.valueOf(System.currentTimeMillis())
+        );
+    }
+
+    private void loadUserLikes(Long userId) {
+        List<String> productIds = jdbcTemplate.queryForList(
+                "SELECT ref_product_id FROM `like` WHERE ref_user_id = ?", String.class, userId);
+        String[] members = new String[productIds.size() + 1];
+        members[0] = LOADED_MARKER;
+        for (int i = 0; i < productIds.size(); i++) {
+            members[i + 1] = productIds.get(i);
+        }
+        masterRedisTemplate.opsForSet().add(userKey(userId), members);
+    }
+
+    static String userKey(Long userId) {
+        return KEY_USER_PREFIX + userId;
+    }
+}
@@ -0,0 +1,151 @@
+package com.loopers.infrastructure.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.order.OrderIdempotencyRepository;
+import com.loopers.domain.order.OrderReceipt;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * orderSeq별 주문 접수 기록을 Redis에 TTL로 보관하고, 완료된 기록은 인스턴스 메모리에도 둔다.
+ * 처리를 시작할 때 SET NX로 처리 중 표시를 남겨 같은 주문의 동시 요청이 재고/포인트를 건드리기 전에 걸러지고,
+ * 커밋되면 접수 결과로 덮어써 이후 재요청은 조회 한 번으로 응답한다.
+ * 처리 중 표시는 롤백 시 지우고, 커밋 후 저장에 실패해도 짧은 TTL 뒤 사라진다.
+ * Redis 장애 시에는 걸러내지 않고 주문 테이블의 orderSeq 유니크 제약에 맡긴다.
+ */
+@Slf4j
+@Component
+public class OrderIdempotencyRepositoryImpl implements OrderIdempotencyRepository {
+    private static final String KEY_PREFIX = "order:idempotency:";
+    private static final String IN_PROGRESS = "IN_PROGRESS";
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, OrderReceipt> receipts;
+    private final Duration ttl;
+    private final Duration inProgressTtl;
+    private final Counter replayed;
+
+    public OrderIdempotencyRepositoryImpl(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${order.idempotency.ttl-seconds:86400}") long ttlSeconds,
+            @Value("${order.idempotency.local-ttl-seconds:600}") long localTtlSeconds,
+            @Value("${order.idempotency.in-progress-ttl-seconds:30}") long inProgressTtlSeconds
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.inProgressTtl = Duration.ofSeconds(inProgressTtlSeconds);
+        this.receipts = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofSeconds(Math.min(localTtlSeconds, ttlSeconds)))
+                .build();
+        this.replayed = Counter.builder("order.idempotency.replayed")
+                .description("접수 기록으로 응답한 주문 재요청 수")
+                .register(meterRegistry);
+    }
+
+    // 복제 지연으로 방금 저장한 기록을 놓치지 않도록 master에서 조회
+    @Override
+    public Optional<OrderReceipt> find(String orderSeq) {
+        OrderReceipt receipt = receipts.getIfPresent(orderSeq);
+        if (receipt == null) {
+            receipt = readRemote(orderSeq);
+            if (receipt == null) {
+                return Optional.empty();
+            }
+            receipts.put(orderSeq, receipt);
+        }
+        replayed.increment();
+        return Optional.of(receipt);
+    }
+
+    @Override
+    public boolean tryAcquire(String orderSeq) {
+        Boolean acquired;
+        try {
+            acquired = masterRedisTemplate.opsForValue().setIfAbsent(key(orderSeq), IN_PROGRESS, inProgressTtl);
+        } catch (DataAccessException e) {
+            log.warn("주문 처리 중 표시 실패 [orderSeq: {}] - 중복 확인을 DB에 맡깁니다. {}", orderSeq, e.getMessage());
+            return true;
+        }
+        if (!Boolean.TRUE.equals(acquired)) {
+            return false;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        release(orderSeq);
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    @Override
+    public void saveOnCommit(String orderSeq, OrderReceipt receipt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            save(orderSeq, receipt);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                save(orderSeq, receipt);
+            }
+        });
+    }
+
+    private void save(String orderSeq, OrderReceipt receipt) {
+        receipts.put(orderSeq, receipt);
+        try {
+            masterRedisTemplate.opsForValue().set(key(orderSeq), objectMapper.writeValueAsString(receipt), ttl);
+        } catch (Exception e) {
+            log.warn("주문 접수 기록 저장 실패 [orderSeq: {}] - {}", orderSeq, e.getMessage());
+        }
+    }
+
+    private OrderReceipt readRemote(String orderSeq) {
+        try {
+            String value = masterRedisTemplate.opsForValue().get(key(orderSeq));
+            if (value == null || IN_PROGRESS.equals(value)) {
+                return null;
+            }
+            return objectMapper.readValue(value, OrderReceipt.class);
+        } catch (Exception e) {
+            log.warn("주문 접수 기록 조회 실패 [orderSeq: {}] - {}", orderSeq, e.getMessage());
+            return null;
+        }
+    }
+
+    private void release(String orderSeq) {
+        try {
+            masterRedisTemplate.delete(key(orderSeq));
+        } catch (DataAccessException e) {
+            log.warn("주문 처리 중 표시 해제 실패 [orderSeq: {}] - {}", orderSeq, e.getMessage());
+        }
+    }
+
+    private String key(String orderSeq) {
+        return KEY_PREFIX + orderSeq;
+    }
+}
@@ -9,4 +9,6 @@ import java.util.Optional;
 public interface OrderJpaRepository extends JpaRepository<Order,Long> {
     List<Order> findByRefUserId(Long refUserId);
     Optional<Order> findByIdAndRefUserId(Long id, Long refUserId);
+    boolean existsByOrderSeq(String orderSeq);
+    Optional<Order> findByOrderSeq(String orderSeq);
 }
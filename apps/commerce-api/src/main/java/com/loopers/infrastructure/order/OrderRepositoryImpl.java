@@ -32,4 +32,14 @@ public class OrderRepositoryImpl implements OrderRepository {
     public Optional<Order> findByIdAndUserId(Long orderId, Long userId) {
         return jpaOrderRepository.findByIdAndRefUserId(orderId, userId);
     }
+
+    @Override
+    public boolean existsByOrderSeq(String orderSeq) {
+        return jpaOrderRepository.existsByOrderSeq(orderSeq);
+    }
+
+    @Override
+    public Optional<Order> findByOrderSeq(String orderSeq) {
+        return jpaOrderRepository.findByOrderSeq(orderSeq);
+    }
 }
@@ -0,0 +1,213 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.QProduct;
+import com.loopers.domain.product.event.ProductCreatedEvent;
+import com.loopers.domain.product.event.ProductDeletedEvent;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 목록 페이징용 전체/브랜드별 상품 수를 메모리에 유지한다.
+ * 목록 조회마다 COUNT 쿼리를 실행하지 않도록 하고, 등록/삭제 이벤트로 증감하며 주기적으로 DB와 재동기화한다.
+ * 진행 중인 트랜잭션의 증감분은 커밋 전까지 해당 트랜잭션 안에서만 반영된다.
+ * 재동기화는 기동 시/주기적으로, 무효화 이후에는 전용 스레드에서 수행해 요청 트랜잭션이 커넥션을 하나 더 잡지 않는다.
+ * 재동기화 전 조회는 호출한 트랜잭션 안에서 COUNT 쿼리로 응답한다.
+ */
+@Slf4j
+@Component
+public class ProductCountProvider {
+    private final JPAQueryFactory queryFactory;
+    private final TransactionTemplate reconcileTransaction;
+    private final ExecutorService reconcileExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-count-reconcile");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean reconcileRequested = new AtomicBoolean(false);
+
+    private final Map<Long, AtomicLong> brandCounts = new ConcurrentHashMap<>();
+    private final AtomicLong totalCount = new AtomicLong();
+    private final Object pendingKey = new Object();
+    private volatile boolean initialized = false;
+
+    public ProductCountProvider(JPAQueryFactory queryFactory, PlatformTransactionManager transactionManager) {
+        this.queryFactory = queryFactory;
+        // 재동기화는 요청 트랜잭션 밖(스케줄러/전용 스레드)에서만 실행되므로 커밋된 데이터만 본다
+        this.reconcileTransaction = new TransactionTemplate(transactionManager);
+        this.reconcileTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reconcileExecutor.shutdownNow();
+    }
+
+    public long count(Long brandId) {
+        if (!initialized) {
+            requestReconcile();
+            return countNow(brandId);
+        }
+
+        PendingCounts pending = currentPending();
+        if (brandId == null) {
+            return Math.max(0L, totalCount.get() + (pending == null ? 0L : pending.total));
+        }
+        AtomicLong brandCount = brandCounts.get(brandId);
+        long committed = brandCount == null ? 0L : brandCount.get();
+        return Math.max(0L, committed + (pending == null ? 0L : pending.of(brandId)));
+    }
+
+    // 대량 적재/삭제 이후 호출 - 다음 조회 시 DB 기준으로 다시 계산
+    public void invalidate() {
+        initialized = false;
+    }
+
+    // 재동기화 전에는 호출한 트랜잭션에서 바로 COUNT (자기 트랜잭션의 변경까지 포함되므로 증감분은 더하지 않음)
+    private long countNow(Long brandId) {
+        QProduct product = QProduct.product;
+        Long count = queryFactory
+                .select(product.count())
+                .from(product)
+                .where(brandId != null ? product.refBrandId.eq(brandId) : null)
+                .fetchOne();
+        return count == null ? 0L : count;
+    }
+
+    private void requestReconcile() {
+        if (!reconcileRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            reconcileExecutor.execute(() -> {
+                try {
+                    reconcile();
+                } catch (RuntimeException e) {
+                    log.warn("상품 수 재동기화 실패: {}", e.getMessage());
+                } finally {
+                    reconcileRequested.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            reconcileRequested.set(false);
+        }
+    }
+
+    // 브랜드별 GROUP BY 한 번으로 전체/브랜드별 카운트 재계산
+    @Scheduled(fixedDelayString = "${product.count.reconcile-interval-ms:300000}",
+            initialDelayString = "${product.count.reconcile-interval-ms:300000}")
+    public synchronized void reconcile() {
+        QProduct product = QProduct.product;
+        List<Tuple> rows = reconcileTransaction.execute(status -> queryFactory
+                .select(product.refBrandId, product.count())
+                .from(product)
+                .groupBy(product.refBrandId)
+                .fetch());
+
+        Map<Long, AtomicLong> counted = new HashMap<>();
+        long total = 0L;
+        for (Tuple row : rows) {
+            long count = row.get(product.count());
+            counted.put(row.get(product.refBrandId), new AtomicLong(count));
+            total += count;
+        }
+
+        long drift = total - totalCount.get();
+        if (initialized && drift != 0) {
+            log.info("상품 수 재동기화 - 전체 보정값: {}", drift);
+        }
+
+        brandCounts.clear();
+        brandCounts.putAll(counted);
+        totalCount.set(total);
+        initialized = true;
+    }
+
+    @EventListener
+    public void onCreated(ProductCreatedEvent event) {
+        applyDelta(event.brandId(), 1L);
+    }
+
+    @EventListener
+    public void onDeleted(ProductDeletedEvent event) {
+        applyDelta(event.brandId(), -1L);
+    }
+
+    // 트랜잭션 안이면 커밋 시점에 반영, 아니면 즉시 반영
+    private void applyDelta(Long brandId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyCommitted(brandId, delta);
+            return;
+        }
+
+        PendingCounts pending = currentPending();
+        if (pending == null) {
+            PendingCounts created = new PendingCounts();
+            TransactionSynchronizationManager.bindResource(pendingKey, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(pendingKey);
+                    if (status == STATUS_COMMITTED) {
+                        created.byBrand.forEach(ProductCountProvider.this::applyCommitted);
+                    }
+                }
+            });
+            pending = created;
+        }
+        pending.add(brandId, delta);
+    }
+
+    private synchronized void applyCommitted(Long brandId, long delta) {
+        if (!initialized) {
+            return;
+        }
+        brandCounts.computeIfAbsent(brandId, id -> new AtomicLong()).updateAndGet(count -> Math.max(0L, count + delta));
+        totalCount.updateAndGet(count -> Math.max(0L, count + delta));
+    }
+
+    private PendingCounts currentPending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        return (PendingCounts) TransactionSynchronizationManager.getResource(pendingKey);
+    }
+
+    private static class PendingCounts {
+        private final Map<Long, Long> byBrand = new HashMap<>();
+        private long total = 0L;
+
+        void add(Long brandId, long delta) {
+            byBrand.merge(brandId, delta, Long::sum);
+            total += delta;
+        }
+
+        long of(Long brandId) {
+            return byBrand.getOrDefault(brandId, 0L);
+        }
+    }
+}
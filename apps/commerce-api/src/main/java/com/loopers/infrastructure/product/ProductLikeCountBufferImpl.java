@@ -0,0 +1,158 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductLikeCountBuffer;
+import com.loopers.domain.product.ProductRankingRepository;
+import com.loopers.domain.product.event.ProductUpdatedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품별 LongAdder에 좋아요 증감분을 누적하고 주기적으로 한 번에 반영한다.
+ * 좋아요마다 Product를 수정하지 않으므로 인기 상품에 @Version 충돌이 몰리지 않는다.
+ * 반영 전 증감분은 pending으로 조회해 응답에 합산할 수 있다.
+ * 반영한 상품마다 ProductUpdatedEvent를 발행해 목록 테이블, 검색 색인, 상세 캐시가 다른 상품 변경과 같은 경로로 동기화된다.
+ */
+@Slf4j
+@Component
+public class ProductLikeCountBufferImpl implements ProductLikeCountBuffer {
+    // 0 미만이 되는 증감분은 반영하지 않음 (보정하지 않고 거부된 건으로 남김)
+    private static final String UPDATE_PRODUCT = "UPDATE product SET like_count = like_count + ? WHERE id = ? AND like_count + ? >= 0";
+    private static final String SELECT_BRAND_IDS = "SELECT id, ref_brand_id FROM product WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate flushTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductRankingRepository productRankingRepository;
+    private final Map<Long, LongAdder> deltas = new ConcurrentHashMap<>();
+
+    public ProductLikeCountBufferImpl(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            ProductRankingRepository productRankingRepository
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.productRankingRepository = productRankingRepository;
+    }
+
+    // 좋아요 트랜잭션이 커밋된 뒤에만 누적 (롤백된 좋아요는 반영되지 않음)
+    @Override
+    public void add(Long productId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accumulate(productId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accumulate(productId, delta);
+            }
+        });
+    }
+
+    @Override
+    public long pending(Long productId) {
+        LongAdder adder = deltas.get(productId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    // 누적분을 상품 테이블에 batch UPDATE로 반영
+    @Override
+    @Scheduled(fixedDelayString = "${product.like-count.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        // sumThenReset은 동시 증감분을 잃을 수 있어, 읽은 값만큼만 빼서 이후 증감분은 남겨둔다
+        Map<Long, Long> flushing = new LinkedHashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : deltas.entrySet()) {
+            long delta = entry.getValue().sum();
+            if (delta != 0) {
+                entry.getValue().add(-delta);
+                flushing.put(entry.getKey(), delta);
+            }
+        }
+        if (flushing.isEmpty()) {
+            return;
+        }
+
+        List<RejectedDelta> rejected;
+        try {
+            rejected = flushTransaction.execute(status -> apply(flushing));
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 반영
+            flushing.forEach(this::accumulate);
+            log.warn("좋아요 수 반영 실패 ({}건): {}", flushing.size(), e.getMessage());
+            return;
+        }
+        rejected.forEach(this::revertRanking);
+    }
+
+    // 종료 시 남은 증감분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void accumulate(Long productId, long delta) {
+        deltas.computeIfAbsent(productId, id -> new LongAdder()).add(delta);
+    }
+
+    // 반영된 상품은 변경 이벤트 발행 (목록 테이블은 같은 트랜잭션에서, 검색 색인/상세 캐시는 커밋 후 동기화)
+    private List<RejectedDelta> apply(Map<Long, Long> flushing) {
+        List<Long> productIds = new ArrayList<>(flushing.keySet());
+        List<Object[]> batchArgs = productIds.stream()
+                .map(productId -> new Object[]{flushing.get(productId), productId, flushing.get(productId)})
+                .toList();
+        int[] updatedCounts = jdbcTemplate.batchUpdate(UPDATE_PRODUCT, batchArgs);
+        Map<Long, Long> brandIds = findBrandIds(productIds);
+
+        List<RejectedDelta> rejected = new ArrayList<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            Long productId = productIds.get(i);
+            // 0: 삭제된 상품이거나 좋아요 수가 0 미만이 되는 경우 (SUCCESS_NO_INFO는 반영된 것으로 봄)
+            if (updatedCounts[i] == 0) {
+                rejected.add(new RejectedDelta(productId, brandIds.get(productId), flushing.get(productId)));
+                continue;
+            }
+            eventPublisher.publishEvent(new ProductUpdatedEvent(productId, brandIds.get(productId)));
+        }
+        return rejected;
+    }
+
+    private Map<Long, Long> findBrandIds(List<Long> productIds) {
+        Map<Long, Long> brandIds = new HashMap<>();
+        String placeholders = String.join(",", Collections.nCopies(productIds.size(), "?"));
+        jdbcTemplate.query(SELECT_BRAND_IDS.formatted(placeholders), (RowCallbackHandler) rs ->
+                brandIds.put(rs.getLong("id"), rs.getLong("ref_brand_id")), productIds.toArray());
+        return brandIds;
+    }
+
+    // 반영하지 못한 증감분은 랭킹에 이미 더해져 있으므로 되돌림, like_count는 보정 작업(ProductLikeCountReconciler)이 like 테이블 기준으로 맞춤
+    private void revertRanking(RejectedDelta rejected) {
+        log.warn("좋아요 수 반영 거부 - 상품 ID: {}, 증감분: {}", rejected.productId(), rejected.delta());
+        if (rejected.brandId() != null) {
+            productRankingRepository.increaseScore(rejected.productId(), rejected.brandId(), -rejected.delta());
+        }
+    }
+
+    private record RejectedDelta(Long productId, Long brandId, long delta) {
+    }
+}
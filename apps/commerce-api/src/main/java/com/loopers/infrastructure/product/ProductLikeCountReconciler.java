@@ -0,0 +1,361 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.LikeStateRepository;
+import com.loopers.domain.product.ProductLikeCountBuffer;
+import com.loopers.domain.product.ProductRankingRepository;
+import com.loopers.domain.product.event.ProductUpdatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * product.like_count 를 like 테이블 기준으로 검증/보정한다.
+ * 상품 id 구간(chunk)마다 GROUP BY 1회로 실제 좋아요 수를 구하고, 다른 값만 batch UPDATE로 고친다.
+ * 고정 크기 작업자가 구간을 나눠 처리하며, 앞에서부터 연속으로 끝난 구간까지를 Redis에 기록해 중단돼도 이어서 처리한다.
+ * 반영 전 증감분이 있는 상품과 like outbox에 아직 반영되지 않은 항목이 있는 상품은 건너뛰고,
+ * 읽은 값이 그대로일 때만 고쳐 동시에 반영된 증감분을 덮어쓰지 않는다.
+ * 고친 상품은 ProductUpdatedEvent를 발행해 목록 테이블, 검색 색인, 상세 캐시도 함께 맞춘다.
+ * 실행은 스케줄러 스레드가 아닌 전용 스레드에서 하며, 잠금은 실행마다 발급한 토큰이 같을 때만 해제한다.
+ */
+@Slf4j
+@Component
+public class ProductLikeCountReconciler {
+    private static final String KEY_CHECKPOINT = "product:like-count:reconcile:checkpoint";
+    private static final String KEY_LOCK = "product:like-count:reconcile:lock";
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+    // 잠금이 만료되기 전에 실행을 끝내도록 남겨두는 여유
+    private static final Duration RUN_TIMEOUT = LOCK_TTL.minusMinutes(5);
+    // outbox가 이보다 많이 쌓여 있으면 like 테이블이 크게 밀린 것이므로 구간 전체를 건너뜀
+    private static final int OUTBOX_SCAN_LIMIT = 10_000;
+    // 내가 잡은 잠금일 때만 삭제 (만료 후 다른 인스턴스가 잡은 잠금은 유지)
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+    private static final String SELECT_PRODUCTS = "SELECT id, ref_brand_id, like_count FROM product WHERE id > ? AND id <= ?";
+    private static final String SELECT_LIKE_COUNTS = """
+            SELECT ref_product_id, COUNT(*) AS cnt
+            FROM `like`
+            WHERE ref_product_id > ? AND ref_product_id <= ?
+            GROUP BY ref_product_id
+            """;
+    private static final String UPDATE_PRODUCT = "UPDATE product SET like_count = ? WHERE id = ? AND like_count = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final ProductLikeCountBuffer productLikeCountBuffer;
+    private final ProductRankingRepository productRankingRepository;
+    private final LikeStateRepository likeStateRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate chunkTransaction;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final int workers;
+    private final long throttleMillis;
+
+    private final Counter checked;
+    private final Counter skipped;
+    private final Counter drifted;
+    private final Counter corrected;
+    private final DistributionSummary driftAmount;
+    private final AtomicLong checkpoint = new AtomicLong();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-like-count-reconcile");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ProductLikeCountReconciler(
+            JdbcTemplate jdbcTemplate,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            ProductLikeCountBuffer productLikeCountBuffer,
+            ProductRankingRepository productRankingRepository,
+            LikeStateRepository likeStateRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${product.like-count.reconcile.enabled:true}") boolean enabled,
+            @Value("${product.like-count.reconcile.chunk-size:1000}") int chunkSize,
+            @Value("${product.like-count.reconcile.workers:4}") int workers,
+            @Value("${product.like-count.reconcile.throttle-ms:20}") long throttleMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.productLikeCountBuffer = productLikeCountBuffer;
+        this.productRankingRepository = productRankingRepository;
+        this.likeStateRepository = likeStateRepository;
+        this.eventPublisher = eventPublisher;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.workers = workers;
+        this.throttleMillis = throttleMillis;
+
+        this.checked = counter(meterRegistry, "checked");
+        this.skipped = counter(meterRegistry, "skipped");
+        this.drifted = counter(meterRegistry, "drifted");
+        this.corrected = counter(meterRegistry, "corrected");
+        this.driftAmount = DistributionSummary.builder("product.like-count.reconcile.drift")
+                .description("보정된 상품별 좋아요 수 차이 (절댓값)")
+                .register(meterRegistry);
+        Gauge.builder("product.like-count.reconcile.checkpoint", checkpoint, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    // 한 인스턴스만 실행, 이전 실행이 끝낸 위치부터 마지막 상품까지 처리 (전용 스레드로 넘기고 바로 반환)
+    @Scheduled(fixedDelayString = "${product.like-count.reconcile.interval-ms:3600000}",
+            initialDelayString = "${product.like-count.reconcile.interval-ms:3600000}")
+    public void reconcile() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean locked = masterRedisTemplate.opsForValue().setIfAbsent(KEY_LOCK, token, LOCK_TTL);
+            if (!Boolean.TRUE.equals(locked)) {
+                running.set(false);
+                return;
+            }
+        } catch (DataAccessException e) {
+            running.set(false);
+            log.warn("좋아요 수 보정 잠금 실패 - 이번 주기는 건너뜁니다. {}", e.getMessage());
+            return;
+        }
+
+        try {
+            runner.execute(() -> {
+                try {
+                    run();
+                } finally {
+                    releaseLock(token);
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            releaseLock(token);
+            running.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+    }
+
+    private void run() {
+        long start = loadCheckpoint();
+        long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM product", Long.class);
+        checkpoint.set(start);
+
+        AtomicLong nextFrom = new AtomicLong(start);
+        AtomicBoolean failed = new AtomicBoolean(false);
+        NavigableSet<Long> completed = new ConcurrentSkipListSet<>();
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+
+        for (int i = 0; i < workers; i++) {
+            executor.submit(() -> {
+                while (!failed.get()) {
+                    long from = nextFrom.getAndAdd(chunkSize);
+                    if (from >= maxId) {
+                        return;
+                    }
+                    try {
+                        reconcileChunk(from, from + chunkSize);
+                    } catch (RuntimeException e) {
+                        // 실패한 구간 이후는 체크포인트가 진행되지 않으므로 다음 실행에서 다시 처리
+                        failed.set(true);
+                        log.warn("좋아요 수 보정 실패 (id {} ~ {}): {}", from + 1, from + chunkSize, e.getMessage());
+                        return;
+                    }
+                    completed.add(from);
+                    advanceCheckpoint(completed);
+                    if (!sleep(throttleMillis)) {
+                        return;
+                    }
+                }
+            });
+        }
+
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(RUN_TIMEOUT.toMinutes(), TimeUnit.MINUTES)) {
+                // 잠금이 만료되면 다른 인스턴스와 겹칠 수 있으므로 중단, 남은 구간은 체크포인트부터 다음 실행에서 처리
+                failed.set(true);
+                executor.shutdownNow();
+                log.warn("좋아요 수 보정 시간 초과 - {}분 안에 끝나지 않아 중단합니다. (체크포인트: {})",
+                        RUN_TIMEOUT.toMinutes(), checkpoint.get());
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+            return;
+        }
+
+        if (!failed.get() && checkpoint.get() >= maxId) {
+            // 끝까지 확인했으면 다음 실행은 처음부터
+            masterRedisTemplate.delete(KEY_CHECKPOINT);
+            checkpoint.set(0L);
+            log.info("좋아요 수 보정 완료 (누적 확인: {}, 차이: {}, 보정: {}, 건너뜀: {})",
+                    (long) checked.count(), (long) drifted.count(), (long) corrected.count(), (long) skipped.count());
+        }
+    }
+
+    // (fromExclusive, toInclusive] 구간의 상품을 검증하고 보정한 상품 수를 반환
+    public int reconcileChunk(long fromExclusive, long toInclusive) {
+        Integer result = chunkTransaction.execute(status -> {
+            // 좋아요 수를 읽기 전후로 outbox를 확인해 둘 중 한 번이라도 반영 전 변경이 있던 상품은 건너뜀
+            // (읽는 사이 relay가 반영하고 항목을 지운 경우, 읽은 뒤 새로 쌓인 경우 모두 포함)
+            Optional<Set<Long>> unrelayedBefore = likeStateRepository.findUnrelayedProductIds(OUTBOX_SCAN_LIMIT);
+            Map<Long, Long> actualCounts = new HashMap<>();
+            jdbcTemplate.query(SELECT_LIKE_COUNTS,
+                    rs -> { actualCounts.put(rs.getLong("ref_product_id"), rs.getLong("cnt")); },
+                    fromExclusive, toInclusive);
+            Optional<Set<Long>> unrelayedAfter = unrelayedBefore.isEmpty()
+                    ? Optional.empty()
+                    : likeStateRepository.findUnrelayedProductIds(OUTBOX_SCAN_LIMIT);
+            if (unrelayedAfter.isEmpty()) {
+                log.warn("like outbox가 {}건 넘게 쌓여 있어 좋아요 수 보정을 건너뜁니다. (id {} ~ {})",
+                        OUTBOX_SCAN_LIMIT, fromExclusive + 1, toInclusive);
+                return 0;
+            }
+            Set<Long> unrelayedProductIds = new HashSet<>(unrelayedBefore.get());
+            unrelayedProductIds.addAll(unrelayedAfter.get());
+
+            List<Object[]> productArgs = new ArrayList<>();
+            List<long[]> drifts = new ArrayList<>();   // {productId, brandId, drift}
+            jdbcTemplate.query(SELECT_PRODUCTS, rs -> {
+                long productId = rs.getLong("id");
+                long stored = rs.getLong("like_count");
+                checked.increment();
+                if (productLikeCountBuffer.pending(productId) != 0 || unrelayedProductIds.contains(productId)) {
+                    skipped.increment();
+                    return;
+                }
+                long actual = actualCounts.getOrDefault(productId, 0L);
+                if (actual != stored) {
+                    drifted.increment();
+                    productArgs.add(new Object[]{actual, productId, stored});
+                    drifts.add(new long[]{productId, rs.getLong("ref_brand_id"), actual - stored});
+                }
+            }, fromExclusive, toInclusive);
+
+            if (productArgs.isEmpty()) {
+                return 0;
+            }
+
+            int[] updated = jdbcTemplate.batchUpdate(UPDATE_PRODUCT, productArgs);
+            int correctedCount = 0;
+            for (int i = 0; i < updated.length; i++) {
+                // 읽은 뒤 다른 반영이 끼어들었으면 0건, 다음 실행에서 다시 확인
+                if (updated[i] > 0 || updated[i] == Statement.SUCCESS_NO_INFO) {
+                    long[] drift = drifts.get(i);
+                    // 목록 테이블은 같은 트랜잭션에서, 검색 색인/상세 캐시는 커밋 후 동기화
+                    eventPublisher.publishEvent(new ProductUpdatedEvent(drift[0], drift[1]));
+                    productRankingRepository.increaseScore(drift[0], drift[1], drift[2]);
+                    driftAmount.record(Math.abs(drift[2]));
+                    correctedCount++;
+                }
+            }
+            corrected.increment(correctedCount);
+            return correctedCount;
+        });
+        return result == null ? 0 : result;
+    }
+
+    private void releaseLock(String token) {
+        try {
+            masterRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(KEY_LOCK), token);
+        } catch (DataAccessException e) {
+            // 해제하지 못해도 TTL이 지나면 풀림
+            log.warn("좋아요 수 보정 잠금 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    // 앞에서부터 연속으로 끝난 구간까지만 체크포인트 진행 (병렬로 뒤 구간이 먼저 끝나도 건너뛰지 않음)
+    private synchronized void advanceCheckpoint(NavigableSet<Long> completed) {
+        long current = checkpoint.get();
+        boolean advanced = false;
+        while (completed.remove(current)) {
+            current += chunkSize;
+            advanced = true;
+        }
+        if (!advanced) {
+            return;
+        }
+        checkpoint.set(current);
+        try {
+            masterRedisTemplate.opsForValue().set(KEY_CHECKPOINT, String.valueOf(current));
+        } catch (DataAccessException e) {
+            log.warn("좋아요 수 보정 체크포인트 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private long loadCheckpoint() {
+        try {
+            String saved = masterRedisTemplate.opsForValue().get(KEY_CHECKPOINT);
+            return saved == null ? 0L : Long.parseLong(saved);
+        } catch (DataAccessException | NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    // DB 부하를 줄이기 위해 구간 사이에 쉬어감
+    private static boolean sleep(long millis) {
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("product.like-count.reconcile.products")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
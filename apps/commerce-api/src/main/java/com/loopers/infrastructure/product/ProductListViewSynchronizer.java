@@ -0,0 +1,101 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.brand.event.BrandUpdatedEvent;
+import com.loopers.domain.product.event.ProductCreatedEvent;
+import com.loopers.domain.product.event.ProductDeletedEvent;
+import com.loopers.domain.product.event.ProductUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * product_list_view 동기화.
+ * 엔티티 이벤트는 flush 중(같은 트랜잭션, 같은 커넥션)에 처리되므로 상품 변경과 함께 커밋/롤백된다.
+ * StatelessSession 대량 적재처럼 엔티티 이벤트를 거치지 않는 경로는 rebuildAll로 맞춘다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductListViewSynchronizer {
+    private static final int REBUILD_CHUNK_SIZE = 10000;
+
+    private static final String UPSERT_SELECT = """
+            INSERT INTO product_list_view
+                (product_id, name, original_price, selling_price, discount_rate, sale_status, brand_id, brand_name, like_count, created_at)
+            SELECT p.id, p.name, p.original_price, p.selling_price, COALESCE(p.discount_rate, 0), p.sale_status, p.ref_brand_id, b.name, p.like_count, p.created_at
+            FROM product p
+            LEFT JOIN brand b ON b.id = p.ref_brand_id
+            WHERE %s
+            ON DUPLICATE KEY UPDATE
+                name = VALUES(name),
+                original_price = VALUES(original_price),
+                selling_price = VALUES(selling_price),
+                discount_rate = VALUES(discount_rate),
+                sale_status = VALUES(sale_status),
+                brand_id = VALUES(brand_id),
+                brand_name = VALUES(brand_name),
+                like_count = VALUES(like_count)
+            """;
+
+    // discount_rate 컬럼 추가 이전에 저장된 상품 보정 (Product.calculateDiscountRate와 같은 계산)
+    private static final String BACKFILL_DISCOUNT_RATE = """
+            UPDATE product
+            SET discount_rate = CASE WHEN original_price = 0 THEN 0
+                                     ELSE TRUNCATE((original_price - selling_price) * 100 / original_price, 2) END
+            WHERE discount_rate IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener
+    public void onCreated(ProductCreatedEvent event) {
+        upsert(event.productId());
+    }
+
+    @EventListener
+    public void onUpdated(ProductUpdatedEvent event) {
+        upsert(event.productId());
+    }
+
+    @EventListener
+    public void onDeleted(ProductDeletedEvent event) {
+        jdbcTemplate.update("DELETE FROM product_list_view WHERE product_id = ?", event.productId());
+    }
+
+    @EventListener
+    public void onBrandUpdated(BrandUpdatedEvent event) {
+        jdbcTemplate.update("UPDATE product_list_view SET brand_name = ? WHERE brand_id = ?", event.name(), event.brandId());
+    }
+
+    // 기존 데이터가 있는 DB로 기동한 경우 한 번 채워 넣음
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        int backfilled = jdbcTemplate.update(BACKFILL_DISCOUNT_RATE);
+        Long productCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product", Long.class);
+        Long viewCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_list_view", Long.class);
+        if (backfilled > 0 || (productCount != null && !productCount.equals(viewCount))) {
+            rebuildAll();
+        }
+    }
+
+    // 상품 id 구간 단위로 전체 재구성 + 삭제된 상품 정리
+    public void rebuildAll() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM product", Long.class);
+        for (long from = 0; from < maxId; from += REBUILD_CHUNK_SIZE) {
+            jdbcTemplate.update(UPSERT_SELECT.formatted("p.id > ? AND p.id <= ?"), from, from + REBUILD_CHUNK_SIZE);
+        }
+        jdbcTemplate.update("""
+                DELETE v FROM product_list_view v
+                LEFT JOIN product p ON p.id = v.product_id
+                WHERE p.id IS NULL
+                """);
+        log.info("product_list_view 재구성 완료 (max product id: {})", maxId);
+    }
+
+    private void upsert(Long productId) {
+        jdbcTemplate.update(UPSERT_SELECT.formatted("p.id = ?"), productId);
+    }
+}
@@ -0,0 +1,224 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.ProductRankingRepository;
+import com.loopers.domain.product.QProduct;
+import com.loopers.domain.product.event.ProductCreatedEvent;
+import com.loopers.domain.product.event.ProductDeletedEvent;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis ZSET 기반 좋아요 랭킹.
+ * 쓰기는 master 템플릿, 조회는 replica 우선 템플릿을 사용한다.
+ * member는 0으로 채운 상품 id라서 좋아요 수가 같으면 id 역순으로 정렬된다.
+ */
+@Slf4j
+@Component
+public class ProductRankingRepositoryImpl implements ProductRankingRepository {
+    private static final String KEY_ALL = "ranking:product:like:all";
+    private static final String KEY_BRAND_PREFIX = "ranking:product:like:brand:";
+    private static final String KEY_BRANDS = "ranking:product:like:brands";
+    private static final String KEY_READY = "ranking:product:like:ready";
+    private static final String KEY_REBUILD_LOCK = "ranking:product:like:rebuild-lock";
+    private static final int REBUILD_CHUNK_SIZE = 5000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final JPAQueryFactory queryFactory;
+    private final boolean enabled;
+
+    public ProductRankingRepositoryImpl(
+            RedisTemplate<String, String> redisTemplate,
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            JPAQueryFactory queryFactory,
+            @Value("${product.ranking.enabled:true}") boolean enabled
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.queryFactory = queryFactory;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isReady() {
+        if (!enabled) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_READY));
+        } catch (RuntimeException e) {
+            log.warn("랭킹 조회 불가 - DB 정렬로 대체합니다. {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public List<Long> findRankedProductIds(Long brandId, long offset, int size) {
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(key(brandId), offset, offset + size - 1);
+        if (members == null) {
+            return Collections.emptyList();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    @Override
+    public long count(Long brandId) {
+        Long count = redisTemplate.opsForZSet().zCard(key(brandId));
+        return count == null ? 0L : count;
+    }
+
+    // 좋아요 트랜잭션이 커밋된 뒤에만 점수 반영
+    @Override
+    public void increaseScore(Long productId, Long brandId, long delta) {
+        afterCommit(() -> {
+            String member = member(productId);
+            masterRedisTemplate.opsForZSet().incrementScore(KEY_ALL, member, delta);
+            masterRedisTemplate.opsForZSet().incrementScore(key(brandId), member, delta);
+        });
+    }
+
+    @EventListener
+    public void onCreated(ProductCreatedEvent event) {
+        afterCommit(() -> {
+            String member = member(event.productId());
+            masterRedisTemplate.opsForZSet().addIfAbsent(KEY_ALL, member, 0);
+            masterRedisTemplate.opsForZSet().addIfAbsent(key(event.brandId()), member, 0);
+            masterRedisTemplate.opsForSet().add(KEY_BRANDS, String.valueOf(event.brandId()));
+        });
+    }
+
+    @EventListener
+    public void onDeleted(ProductDeletedEvent event) {
+        afterCommit(() -> {
+            String member = member(event.productId());
+            masterRedisTemplate.opsForZSet().remove(KEY_ALL, member);
+            masterRedisTemplate.opsForZSet().remove(key(event.brandId()), member);
+        });
+    }
+
+    // 인스턴스 기동 시 랭킹이 없으면 한 인스턴스만 재구성
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(KEY_READY))) {
+                return;
+            }
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("랭킹 초기화 실패 - DB 정렬로 동작합니다. {}", e.getMessage());
+        }
+    }
+
+    // 상품 테이블을 id 구간 단위로 읽어 ZSET 전체 재구성 (재구성 중에는 DB 정렬로 대체)
+    @Override
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        Boolean locked = masterRedisTemplate.opsForValue().setIfAbsent(KEY_REBUILD_LOCK, "1", Duration.ofMinutes(10));
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        try {
+            masterRedisTemplate.delete(KEY_READY);
+            Set<String> brandIds = masterRedisTemplate.opsForSet().members(KEY_BRANDS);
+            if (brandIds != null) {
+                masterRedisTemplate.delete(brandIds.stream().map(brandId -> KEY_BRAND_PREFIX + brandId).toList());
+            }
+            masterRedisTemplate.delete(List.of(KEY_ALL, KEY_BRANDS));
+
+            QProduct product = QProduct.product;
+            long lastId = 0L;
+            while (true) {
+                List<Tuple> rows = queryFactory
+                        .select(product.id, product.refBrandId, product.likeCount)
+                        .from(product)
+                        .where(product.id.gt(lastId))
+                        .orderBy(product.id.asc())
+                        .limit(REBUILD_CHUNK_SIZE)
+                        .fetch();
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                Set<ZSetOperations.TypedTuple<String>> all = new HashSet<>();
+                Map<Long, Set<ZSetOperations.TypedTuple<String>>> byBrand = new HashMap<>();
+                for (Tuple row : rows) {
+                    ZSetOperations.TypedTuple<String> tuple =
+                            new DefaultTypedTuple<>(member(row.get(product.id)), row.get(product.likeCount).doubleValue());
+                    all.add(tuple);
+                    byBrand.computeIfAbsent(row.get(product.refBrandId), id -> new HashSet<>()).add(tuple);
+                }
+
+                masterRedisTemplate.opsForZSet().add(KEY_ALL, all);
+                byBrand.forEach((brandId, tuples) -> masterRedisTemplate.opsForZSet().add(key(brandId), tuples));
+                masterRedisTemplate.opsForSet().add(KEY_BRANDS, byBrand.keySet().stream().map(String::valueOf).toArray(String[]::new));
+
+                lastId = rows.get(rows.size() - 1).get(product.id);
+            }
+
+            masterRedisTemplate.opsForValue().set(KEY_READY, "1");
+        } finally {
+            masterRedisTemplate.delete(KEY_REBUILD_LOCK);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runQuietly(action);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runQuietly(action);
+            }
+        });
+    }
+
+    // 랭킹 반영 실패가 본 요청을 실패시키지 않도록 로그만 남김 (재구성으로 보정)
+    private void runQuietly(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.warn("랭킹 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    private String key(Long brandId) {
+        return brandId == null ? KEY_ALL : KEY_BRAND_PREFIX + brandId;
+    }
+
+    private String member(Long productId) {
+        return String.format("%019d", productId);
+    }
+}
@@ -1,13 +1,16 @@
 package com.loopers.infrastructure.product;
 
-import com.loopers.domain.brand.QBrand;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductCursorPage;
 import com.loopers.domain.product.ProductRepository;
-import com.loopers.domain.product.QProduct;
+import com.loopers.domain.product.QProductListView;
+import com.loopers.domain.product.vo.ProductCursor;
 import com.loopers.domain.product.vo.ProductSortType;
 import com.loopers.interfaces.api.product.ProductWithLikeCountDto;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -15,8 +18,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Component
@@ -24,12 +32,21 @@ public class ProductRepositoryImpl implements ProductRepository {
 
     private final ProductJpaRepository productJpaRepository;
     private final JPAQueryFactory queryFactory;
+    private final ProductCountProvider productCountProvider;
 
     @Override
     public Optional<Product> findById(Long id) {
         return productJpaRepository.findById(id);
     }
 
+    @Override
+    public List<Product> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return productJpaRepository.findAllById(ids);
+    }
+
     @Override
     public boolean existsById(Long id) {
         return productJpaRepository.existsById(id);
@@ -40,53 +57,153 @@ public class ProductRepositoryImpl implements ProductRepository {
         return productJpaRepository.save(product);
     }
 
+    // 목록 조회는 product_list_view 사용 (brand 조인, description 컬럼 없음)
     @Override
     public Page<ProductWithLikeCountDto> findProductsWithLikeCount(Long brandId, ProductSortType sortType, Pageable pageable) {
-        QProduct product = QProduct.product;
-        QBrand brand = QBrand.brand;
+        QProductListView view = QProductListView.productListView;
+
+        // 1) (필터, 정렬 키, id) 인덱스만으로 id 페이지 조회
+        List<Long> ids = queryFactory
+                .select(view.productId)
+                .from(view)
+                .where(brandId != null ? view.brandId.eq(brandId) : null)
+                .orderBy(getOrderSpecifiers(sortType, view))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 2) 해당 id의 행만 PK로 조회 후 순서 유지
+        List<ProductWithLikeCountDto> content = findProductsWithLikeCountByIds(ids);
 
-        // 정렬 조건 결정
-        OrderSpecifier<?> orderSpecifier = getOrderSpecifier(sortType, product);
+        // 전체 카운트는 COUNT 쿼리 대신 메모리에 유지되는 값 사용 (브랜드 필터 조건 적용)
+        return PageableExecutionUtils.getPage(content, pageable, () -> productCountProvider.count(brandId));
+    }
+
+    // 요청한 id 순서대로 반환 (없는 id는 제외)
+    @Override
+    public List<ProductWithLikeCountDto> findProductsWithLikeCountByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        QProductListView view = QProductListView.productListView;
 
-        // 메인 쿼리 - LEFT JOIN을 사용하여 좋아요 수 계산
-        List<ProductWithLikeCountDto> content = queryFactory
+        Map<Long, ProductWithLikeCountDto> productsById = queryFactory
                 .select(Projections.constructor(ProductWithLikeCountDto.class,
-                        product.id,
-                        product.name,
-                        product.originalPrice.value,
-                        product.sellingPrice.value,
-                        product.saleStatus,
-                        brand.id,
-                        brand.name,
-                        product.likeCount
+                        view.productId,
+                        view.name,
+                        view.originalPrice,
+                        view.sellingPrice,
+                        view.saleStatus,
+                        view.brandId,
+                        view.brandName,
+                        view.likeCount
                 ))
-                .from(product)
-                .leftJoin(brand).on(product.refBrandId.eq(brand.id))
-                .where(brandId != null ? product.refBrandId.eq(brandId) : null)
-                .orderBy(orderSpecifier)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .from(view)
+                .where(view.productId.in(ids))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(ProductWithLikeCountDto::productId, Function.identity()));
+
+        return ids.stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public ProductCursorPage findProductsWithLikeCountByCursor(Long brandId, ProductSortType sortType, ProductCursor cursor, int size) {
+        QProductListView view = QProductListView.productListView;
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회 (COUNT 쿼리 없음)
+        List<Tuple> rows = queryFactory
+                .select(view.productId,
+                        view.name,
+                        view.originalPrice,
+                        view.sellingPrice,
+                        view.saleStatus,
+                        view.brandId,
+                        view.brandName,
+                        view.likeCount,
+                        view.createdAt,
+                        view.discountRate)
+                .from(view)
+                .where(
+                        brandId != null ? view.brandId.eq(brandId) : null,
+                        cursorCondition(sortType, cursor, view)
+                )
+                .orderBy(getOrderSpecifiers(sortType, view))
+                .limit(size + 1L)
                 .fetch();
 
-        // 전체 카운트 쿼리 (브랜드 필터 조건 적용)
-        long total = queryFactory
-                .select(product.count())
-                .from(product)
-                .where(brandId != null ? product.refBrandId.eq(brandId) : null)
-                .fetchOne();
+        boolean hasNext = rows.size() > size;
+        List<Tuple> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        List<ProductWithLikeCountDto> content = pageRows.stream()
+                .map(row -> new ProductWithLikeCountDto(
+                        row.get(view.productId),
+                        row.get(view.name),
+                        row.get(view.originalPrice),
+                        row.get(view.sellingPrice),
+                        row.get(view.saleStatus),
+                        row.get(view.brandId),
+                        row.get(view.brandName),
+                        row.get(view.likeCount)
+                ))
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = pageRows.get(pageRows.size() - 1);
+            nextCursor = ProductCursor.of(sortType, cursorKey(sortType, last, view), last.get(view.productId)).encode();
+        }
 
-        return PageableExecutionUtils.getPage(content, pageable, () -> total);
+        return new ProductCursorPage(content, size, nextCursor, hasNext);
     }
 
     @Override
     public void deleteAll() {
         productJpaRepository.deleteAll();
+        productCountProvider.invalidate();
+    }
+
+    // 정렬 키와 id를 같은 방향으로 정렬해야 (필터, 정렬 키, id) 인덱스를 그대로 따라 읽는다
+    private OrderSpecifier<?>[] getOrderSpecifiers(ProductSortType sortType, QProductListView view) {
+        return switch (sortType) {
+            case LATEST -> new OrderSpecifier<?>[]{view.createdAt.desc(), view.productId.desc()};           // 최신순 정렬
+            case LIKE_COUNT, TRENDING -> new OrderSpecifier<?>[]{view.likeCount.desc(), view.productId.desc()}; // 좋아요 수순 정렬 (인기 집계 준비 전 대체)
+            case PRICE_ASC -> new OrderSpecifier<?>[]{view.sellingPrice.asc(), view.productId.asc()};       // 낮은 가격순 정렬
+            case PRICE_DESC -> new OrderSpecifier<?>[]{view.sellingPrice.desc(), view.productId.desc()};    // 높은 가격순 정렬
+            case DISCOUNT_RATE -> new OrderSpecifier<?>[]{view.discountRate.desc(), view.productId.desc()}; // 할인율순 정렬
+        };
+    }
+
+    // (정렬 키, id) 복합 조건으로 마지막으로 본 행 이후만 조회
+    private BooleanExpression cursorCondition(ProductSortType sortType, ProductCursor cursor, QProductListView view) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return switch (sortType) {
+            case LATEST -> view.createdAt.lt(cursor.createdAtKey())
+                    .or(view.createdAt.eq(cursor.createdAtKey()).and(view.productId.lt(cursor.id())));
+            case LIKE_COUNT, TRENDING -> view.likeCount.lt(cursor.longKey())
+                    .or(view.likeCount.eq(cursor.longKey()).and(view.productId.lt(cursor.id())));
+            case PRICE_ASC -> view.sellingPrice.gt(cursor.decimalKey())
+                    .or(view.sellingPrice.eq(cursor.decimalKey()).and(view.productId.gt(cursor.id())));
+            case PRICE_DESC -> view.sellingPrice.lt(cursor.decimalKey())
+                    .or(view.sellingPrice.eq(cursor.decimalKey()).and(view.productId.lt(cursor.id())));
+            case DISCOUNT_RATE -> view.discountRate.lt(cursor.decimalKey())
+                    .or(view.discountRate.eq(cursor.decimalKey()).and(view.productId.lt(cursor.id())));
+        };
     }
 
-    private OrderSpecifier<?> getOrderSpecifier(ProductSortType sortType, QProduct product) {
+    private Object cursorKey(ProductSortType sortType, Tuple row, QProductListView view) {
         return switch (sortType) {
-            case LATEST -> product.createdAt.desc();            // 최신순 정렬
-            case LIKE_COUNT -> product.likeCount.desc();        // 좋아요 수순 정렬
+            case LATEST -> row.get(view.createdAt);
+            case LIKE_COUNT, TRENDING -> row.get(view.likeCount);
+            case PRICE_ASC, PRICE_DESC -> row.get(view.sellingPrice).toPlainString();
+            case DISCOUNT_RATE -> row.get(view.discountRate).toPlainString();
         };
     }
 }
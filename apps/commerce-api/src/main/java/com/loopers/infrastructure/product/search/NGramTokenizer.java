@@ -0,0 +1,47 @@
+package com.loopers.infrastructure.product.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 형태소 분석기 없이 한국어를 검색하기 위한 bigram 토크나이저.
+ * 문자/숫자 연속 구간을 단어로 보고, 단어마다 2글자씩 겹치게 자른다. ("운동화" -> "운동", "동화")
+ * 띄어쓰기가 달라도("나이키운동화" / "나이키 운동화") 같은 토큰이 대부분 겹치고, 한 글자 단어는 그대로 토큰이 된다.
+ */
+public class NGramTokenizer {
+    private static final int GRAM_SIZE = 2;
+
+    // 문서의 토큰 목록 (중복 포함 - 빈도 계산용)
+    public List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addGrams(normalized.substring(start, i), tokens);
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private void addGrams(String word, List<String> tokens) {
+        if (word.length() <= GRAM_SIZE) {
+            tokens.add(word);
+            return;
+        }
+        for (int i = 0; i + GRAM_SIZE <= word.length(); i++) {
+            tokens.add(word.substring(i, i + GRAM_SIZE));
+        }
+    }
+}
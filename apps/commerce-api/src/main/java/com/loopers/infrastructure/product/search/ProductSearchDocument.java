@@ -0,0 +1,17 @@
+package com.loopers.infrastructure.product.search;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 색인 대상 상품 한 건 (검색어 매칭 필드 + 필터/정렬 키)
+public record ProductSearchDocument(
+        Long productId,
+        Long brandId,
+        String name,
+        String description,
+        Long likeCount,
+        LocalDateTime createdAt,
+        BigDecimal sellingPrice,
+        BigDecimal discountRate
+) {
+}
@@ -0,0 +1,200 @@
+package com.loopers.infrastructure.product.search;
+
+import com.loopers.domain.product.ProductSearchResult;
+import com.loopers.domain.product.vo.ProductSortType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품명/설명 메모리 역색인 + BM25 랭킹.
+ * 검색어의 모든 토큰을 포함하는 상품만 결과에 포함하고(AND), 가장 짧은 posting 목록부터 순회한다.
+ * 정렬: BM25 점수 내림차순 -> 요청한 정렬 타입 -> id 내림차순.
+ * 상위 offset + size 건만 힙으로 유지해 전체 정렬 없이 페이지를 만든다.
+ */
+public class ProductSearchIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int NAME_BOOST = 3;    // 상품명 토큰은 설명보다 가중치를 높게
+
+    private final NGramTokenizer tokenizer;
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    public ProductSearchIndex(NGramTokenizer tokenizer) {
+        this.tokenizer = tokenizer;
+    }
+
+    public void upsert(ProductSearchDocument document) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        tokenizer.tokenize(document.name()).forEach(term -> termFrequencies.merge(term, NAME_BOOST, Integer::sum));
+        tokenizer.tokenize(document.description()).forEach(term -> termFrequencies.merge(term, 1, Integer::sum));
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.productId());
+            Entry entry = new Entry(document.productId(), document.brandId(), document.likeCount(), document.createdAt(),
+                    document.sellingPrice(), document.discountRate(), termFrequencies, length);
+            entries.put(entry.productId(), entry);
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(entry.productId(), frequency));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public ProductSearchResult search(String keyword, Long brandId, ProductSortType sortType, int offset, int size) {
+        List<String> terms = tokenizer.tokenize(keyword).stream().distinct().toList();
+        if (terms.isEmpty()) {
+            return ProductSearchResult.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> termPostings = new ArrayList<>(terms.size());
+            double[] idfs = new double[terms.size()];
+            for (int i = 0; i < terms.size(); i++) {
+                Map<Long, Integer> posting = postings.get(terms.get(i));
+                if (posting == null) {
+                    return ProductSearchResult.empty();
+                }
+                termPostings.add(posting);
+                idfs[i] = idf(posting.size());
+            }
+
+            Map<Long, Integer> shortest = termPostings.get(0);
+            for (Map<Long, Integer> posting : termPostings) {
+                if (posting.size() < shortest.size()) {
+                    shortest = posting;
+                }
+            }
+
+            double averageLength = entries.isEmpty() ? 1.0 : (double) totalLength / entries.size();
+            Comparator<Hit> order = hitOrder(sortType);
+            int limit = offset + size;
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, order.reversed());
+            long totalCount = 0;
+
+            for (Long productId : shortest.keySet()) {
+                Entry entry = entries.get(productId);
+                if (brandId != null && !brandId.equals(entry.brandId())) {
+                    continue;
+                }
+
+                double score = 0.0;
+                boolean matched = true;
+                for (int i = 0; i < termPostings.size(); i++) {
+                    Integer frequency = termPostings.get(i).get(productId);
+                    if (frequency == null) {
+                        matched = false;
+                        break;
+                    }
+                    score += idfs[i] * frequency * (K1 + 1)
+                            / (frequency + K1 * (1 - B + B * entry.length() / averageLength));
+                }
+                if (!matched) {
+                    continue;
+                }
+
+                totalCount++;
+                top.add(new Hit(productId, score, entry.likeCount(), entry.createdAt(), entry.sellingPrice(), entry.discountRate()));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(order);
+            List<Long> productIds = hits.stream()
+                    .skip(offset)
+                    .map(Hit::productId)
+                    .toList();
+            return new ProductSearchResult(productIds, totalCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long productId) {
+        Entry previous = entries.remove(productId);
+        if (previous == null) {
+            return;
+        }
+        previous.termFrequencies().keySet().forEach(term -> {
+            Map<Long, Integer> posting = postings.get(term);
+            posting.remove(productId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+        totalLength -= previous.length();
+    }
+
+    private double idf(int documentFrequency) {
+        return Math.log(1 + (entries.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private Comparator<Hit> hitOrder(ProductSortType sortType) {
+        Comparator<Hit> byScore = Comparator.comparingDouble(Hit::score).reversed();
+        Comparator<Hit> bySortType = switch (sortType) {
+            case LATEST -> Comparator.comparing(Hit::createdAt, Comparator.nullsLast(Comparator.reverseOrder()));
+            case LIKE_COUNT, TRENDING -> Comparator.comparing(Hit::likeCount, Comparator.nullsLast(Comparator.reverseOrder()));
+            case PRICE_ASC -> Comparator.comparing(Hit::sellingPrice, Comparator.nullsLast(Comparator.naturalOrder()));
+            case PRICE_DESC -> Comparator.comparing(Hit::sellingPrice, Comparator.nullsLast(Comparator.reverseOrder()));
+            case DISCOUNT_RATE -> Comparator.comparing(Hit::discountRate, Comparator.nullsLast(Comparator.reverseOrder()));
+        };
+        return byScore.thenComparing(bySortType).thenComparing(Hit::productId, Comparator.reverseOrder());
+    }
+
+    private record Entry(
+            Long productId,
+            Long brandId,
+            Long likeCount,
+            LocalDateTime createdAt,
+            BigDecimal sellingPrice,
+            BigDecimal discountRate,
+            Map<String, Integer> termFrequencies,
+            int length
+    ) {
+    }
+
+    private record Hit(
+            Long productId,
+            double score,
+            Long likeCount,
+            LocalDateTime createdAt,
+            BigDecimal sellingPrice,
+            BigDecimal discountRate
+    ) {
+    }
+}
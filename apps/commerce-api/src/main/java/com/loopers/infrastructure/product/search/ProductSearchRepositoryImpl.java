@@ -0,0 +1,163 @@
+package com.loopers.infrastructure.product.search;
+
+import com.loopers.domain.product.ProductSearchRepository;
+import com.loopers.domain.product.ProductSearchResult;
+import com.loopers.domain.product.event.ProductCreatedEvent;
+import com.loopers.domain.product.event.ProductDeletedEvent;
+import com.loopers.domain.product.event.ProductUpdatedEvent;
+import com.loopers.domain.product.vo.ProductSortType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인스턴스별 메모리 검색 색인.
+ * 기동 시 product 테이블을 id 구간 단위로 읽어 색인을 만들고, 이후 변경은 커밋된 상품 id만 모아 주기적으로 반영한다.
+ * 좋아요처럼 잦은 변경도 주기당 IN 조회 1회로 합쳐지며, 반영 전까지는 이전 값으로 검색된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductSearchRepositoryImpl implements ProductSearchRepository {
+    private static final int BUILD_CHUNK_SIZE = 5000;
+    private static final int REFRESH_CHUNK_SIZE = 1000;
+    private static final String SELECT_DOCUMENTS =
+            "SELECT id, ref_brand_id, name, description, like_count, created_at, selling_price, discount_rate FROM product WHERE %s";
+    private static final RowMapper<ProductSearchDocument> DOCUMENT_MAPPER = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new ProductSearchDocument(
+                rs.getLong("id"),
+                rs.getLong("ref_brand_id"),
+                rs.getString("name"),
+                rs.getString("description"),
+                rs.getLong("like_count"),
+                createdAt == null ? null : createdAt.toLocalDateTime(),
+                rs.getBigDecimal("selling_price"),
+                rs.getBigDecimal("discount_rate")
+        );
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NGramTokenizer tokenizer = new NGramTokenizer();
+    private final Set<Long> dirtyProductIds = ConcurrentHashMap.newKeySet();
+    private volatile ProductSearchIndex index;
+
+    @Override
+    public boolean isReady() {
+        return index != null;
+    }
+
+    @Override
+    public ProductSearchResult search(String keyword, Long brandId, ProductSortType sortType, int offset, int size) {
+        ProductSearchIndex current = index;
+        if (current == null) {
+            return ProductSearchResult.empty();
+        }
+        return current.search(keyword, brandId, sortType, offset, size);
+    }
+
+    @EventListener
+    public void onCreated(ProductCreatedEvent event) {
+        markDirty(event.productId());
+    }
+
+    @EventListener
+    public void onUpdated(ProductUpdatedEvent event) {
+        markDirty(event.productId());
+    }
+
+    @EventListener
+    public void onDeleted(ProductDeletedEvent event) {
+        markDirty(event.productId());
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("검색 색인 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    // 새 색인을 만든 뒤 교체 (생성 중에는 기존 색인으로 검색)
+    @Override
+    public void rebuild() {
+        ProductSearchIndex rebuilt = new ProductSearchIndex(tokenizer);
+        long lastId = 0L;
+        while (true) {
+            List<ProductSearchDocument> documents = jdbcTemplate.query(
+                    SELECT_DOCUMENTS.formatted("id > ? ORDER BY id LIMIT ?"), DOCUMENT_MAPPER, lastId, BUILD_CHUNK_SIZE);
+            if (documents.isEmpty()) {
+                break;
+            }
+            documents.forEach(rebuilt::upsert);
+            lastId = documents.get(documents.size() - 1).productId();
+        }
+        index = rebuilt;
+        log.info("검색 색인 생성 완료 (상품 수: {})", rebuilt.size());
+    }
+
+    // 변경된 상품을 다시 읽어 반영, 조회되지 않으면 삭제된 상품
+    @Scheduled(fixedDelayString = "${product.search.refresh-interval-ms:1000}")
+    public void refresh() {
+        ProductSearchIndex current = index;
+        if (current == null || dirtyProductIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> productIds = new ArrayList<>(dirtyProductIds);
+        productIds.forEach(dirtyProductIds::remove);
+
+        try {
+            for (int from = 0; from < productIds.size(); from += REFRESH_CHUNK_SIZE) {
+                List<Long> chunk = productIds.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, productIds.size()));
+                String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+                List<ProductSearchDocument> documents = jdbcTemplate.query(
+                        SELECT_DOCUMENTS.formatted("id IN (" + placeholders + ")"), DOCUMENT_MAPPER, chunk.toArray());
+
+                Set<Long> missing = new HashSet<>(chunk);
+                for (ProductSearchDocument document : documents) {
+                    current.upsert(document);
+                    missing.remove(document.productId());
+                }
+                missing.forEach(current::remove);
+            }
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 반영 (upsert는 여러 번 적용해도 결과가 같음)
+            dirtyProductIds.addAll(productIds);
+            log.warn("검색 색인 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    // 커밋된 변경만 반영 (롤백된 변경은 색인에 남지 않음)
+    private void markDirty(Long productId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dirtyProductIds.add(productId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dirtyProductIds.add(productId);
+            }
+        });
+    }
+}
@@ -0,0 +1,50 @@
+package com.loopers.infrastructure.product.trending;
+
+/**
+ * 고정 길이 시간 버킷 링 버퍼.
+ * 가장 최근 버킷 번호(head)만 기억하고, 시간이 지나면 지나간 칸만 0으로 비운 뒤 재사용한다.
+ * 합계는 최근 bucketCount개 버킷(현재 버킷 포함)의 값이다.
+ */
+class BucketRing {
+    private final int[] counts;
+    private final long bucketMillis;
+    private long head = Long.MIN_VALUE;
+
+    BucketRing(int bucketCount, long bucketMillis) {
+        this.counts = new int[bucketCount];
+        this.bucketMillis = bucketMillis;
+    }
+
+    void add(long delta, long timeMillis) {
+        long bucket = Math.floorDiv(timeMillis, bucketMillis);
+        advance(bucket);
+        if (bucket <= head - counts.length) {
+            return; // 링 범위보다 오래된 값
+        }
+        counts[(int) Math.floorMod(bucket, counts.length)] += (int) delta;
+    }
+
+    long sum(long nowMillis) {
+        advance(Math.floorDiv(nowMillis, bucketMillis));
+        long sum = 0;
+        for (int count : counts) {
+            sum += count;
+        }
+        return sum;
+    }
+
+    private void advance(long bucket) {
+        if (head == Long.MIN_VALUE) {
+            head = bucket;
+            return;
+        }
+        if (bucket <= head) {
+            return;
+        }
+        long cleared = Math.min(bucket - head, counts.length);
+        for (long i = 1; i <= cleared; i++) {
+            counts[(int) Math.floorMod(head + i, counts.length)] = 0;
+        }
+        head = bucket;
+    }
+}
@@ -0,0 +1,220 @@
+package com.loopers.infrastructure.product.trending;
+
+import com.loopers.domain.like.event.LikeChangedEvent;
+import com.loopers.domain.product.ProductTrendingRepository;
+import com.loopers.domain.product.TrendingScore;
+import com.loopers.domain.product.vo.TrendingWindow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좋아요 이벤트를 받아 상품/브랜드별 기간 좋아요 수를 메모리에 누적하는 인스턴스별 집계.
+ * 기동 시 최근 7일 like 행을 한 번 읽어 채우고, 이후에는 커밋된 좋아요 변경만 반영한다.
+ * 조회는 주기적으로 만든 정렬 스냅샷에서 잘라 반환하므로 like 테이블 GROUP BY 없이 응답한다.
+ * 다른 인스턴스가 처리한 좋아요는 재기동 전까지 반영되지 않으므로 인스턴스 간 순위는 근사치다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductTrendingRepositoryImpl implements ProductTrendingRepository {
+    private static final Duration MAX_WINDOW = Duration.ofDays(7);
+    private static final int WARM_UP_FETCH_SIZE = 5000;
+    private static final String SELECT_RECENT_LIKES = """
+            SELECT l.ref_product_id, p.ref_brand_id, l.created_at
+            FROM `like` l
+            JOIN product p ON p.id = l.ref_product_id
+            WHERE l.created_at >= ? AND l.created_at < ?
+            """;
+    // 좋아요 수 내림차순, 같으면 id 내림차순
+    private static final Comparator<TrendingScore> ORDER = Comparator.comparingLong(TrendingScore::score).reversed()
+            .thenComparing(TrendingScore::id, Comparator.reverseOrder());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, ProductCounter> products = new ConcurrentHashMap<>();
+    private final Map<Long, WindowedLikeCounter> brands = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot;
+
+    @Override
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    @Override
+    public List<Long> findTrendingProductIds(Long brandId, TrendingWindow window, long offset, int size) {
+        List<TrendingScore> scores = productScores(brandId, window);
+        if (offset >= scores.size()) {
+            return List.of();
+        }
+        return scores.subList((int) offset, (int) Math.min(offset + size, scores.size())).stream()
+                .map(TrendingScore::id)
+                .toList();
+    }
+
+    @Override
+    public long count(Long brandId, TrendingWindow window) {
+        return productScores(brandId, window).size();
+    }
+
+    @Override
+    public List<TrendingScore> findTrendingBrands(TrendingWindow window, int size) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return List.of();
+        }
+        List<TrendingScore> scores = current.brands().get(window);
+        return scores.subList(0, Math.min(size, scores.size()));
+    }
+
+    // 커밋된 좋아요 변경만 반영 (롤백된 변경은 집계에 남지 않음)
+    @EventListener
+    public void onLikeChanged(LikeChangedEvent event) {
+        long occurredAt = toMillis(event.occurredAt());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(event.productId(), event.brandId(), event.delta(), occurredAt);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(event.productId(), event.brandId(), event.delta(), occurredAt);
+            }
+        });
+    }
+
+    // 기동 이후 이벤트는 이미 반영되므로 기동 시점 이전 좋아요만 읽음
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        warmUp(LocalDateTime.now());
+        refresh();
+        log.info("인기 상품 집계 준비 완료 (상품 수: {})", products.size());
+    }
+
+    // 이 인스턴스의 집계만 다시 채움, 다른 인스턴스는 재기동 시 반영
+    @Override
+    public void rebuild() {
+        products.clear();
+        brands.clear();
+        warmUp(LocalDateTime.now());
+        refresh();
+        log.info("인기 상품 집계 재생성 완료 (상품 수: {})", products.size());
+    }
+
+    // until 이전 7일 좋아요를 결과 행을 모으지 않고 흘려보내며 누적
+    private void warmUp(LocalDateTime until) {
+        try {
+            JdbcTemplate warmUpTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+            warmUpTemplate.setFetchSize(WARM_UP_FETCH_SIZE);
+            warmUpTemplate.query(SELECT_RECENT_LIKES, rs -> {
+                Timestamp createdAt = rs.getTimestamp("created_at");
+                record(rs.getLong("ref_product_id"), rs.getLong("ref_brand_id"), 1L, createdAt.getTime());
+            }, Timestamp.valueOf(until.minus(MAX_WINDOW)), Timestamp.valueOf(until));
+        } catch (RuntimeException e) {
+            log.warn("인기 상품 집계 초기화 실패 - 이후 좋아요만 집계합니다. {}", e.getMessage());
+        }
+    }
+
+    // 기간별 정렬 스냅샷 재생성, 7일 동안 변화가 없는 카운터는 제거
+    @Scheduled(fixedDelayString = "${product.trending.refresh-interval-ms:10000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        // 같은 키의 누적과 겹치지 않도록 키 단위 원자 연산으로 제거
+        products.keySet().forEach(productId ->
+                products.computeIfPresent(productId, (id, product) -> product.counter().isEmpty(now) ? null : product));
+        brands.keySet().forEach(brandId ->
+                brands.computeIfPresent(brandId, (id, counter) -> counter.isEmpty(now) ? null : counter));
+
+        Map<TrendingWindow, List<TrendingScore>> productsByWindow = new EnumMap<>(TrendingWindow.class);
+        Map<TrendingWindow, Map<Long, List<TrendingScore>>> productsByBrand = new EnumMap<>(TrendingWindow.class);
+        Map<TrendingWindow, List<TrendingScore>> brandsByWindow = new EnumMap<>(TrendingWindow.class);
+
+        for (TrendingWindow window : TrendingWindow.values()) {
+            List<TrendingScore> all = new ArrayList<>();
+            Map<Long, List<TrendingScore>> byBrand = new HashMap<>();
+            products.forEach((productId, product) -> {
+                long score = product.counter().sum(window, now);
+                if (score > 0) {
+                    TrendingScore trendingScore = new TrendingScore(productId, score);
+                    all.add(trendingScore);
+                    byBrand.computeIfAbsent(product.brandId(), id -> new ArrayList<>()).add(trendingScore);
+                }
+            });
+            all.sort(ORDER);
+            byBrand.values().forEach(scores -> scores.sort(ORDER));
+
+            List<TrendingScore> brandScores = new ArrayList<>();
+            brands.forEach((brandId, counter) -> {
+                long score = counter.sum(window, now);
+                if (score > 0) {
+                    brandScores.add(new TrendingScore(brandId, score));
+                }
+            });
+            brandScores.sort(ORDER);
+
+            productsByWindow.put(window, all);
+            productsByBrand.put(window, byBrand);
+            brandsByWindow.put(window, brandScores);
+        }
+
+        snapshot = new Snapshot(productsByWindow, productsByBrand, brandsByWindow);
+    }
+
+    private void record(Long productId, Long brandId, long delta, long timeMillis) {
+        products.compute(productId, (id, product) -> {
+            ProductCounter current = product == null ? new ProductCounter(brandId, new WindowedLikeCounter()) : product;
+            current.counter().add(delta, timeMillis);
+            return current;
+        });
+        brands.compute(brandId, (id, counter) -> {
+            WindowedLikeCounter current = counter == null ? new WindowedLikeCounter() : counter;
+            current.add(delta, timeMillis);
+            return current;
+        });
+    }
+
+    private List<TrendingScore> productScores(Long brandId, TrendingWindow window) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return List.of();
+        }
+        if (brandId == null) {
+            return current.products().get(window);
+        }
+        return current.productsByBrand().get(window).getOrDefault(brandId, Collections.emptyList());
+    }
+
+    private long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record ProductCounter(Long brandId, WindowedLikeCounter counter) {
+    }
+
+    private record Snapshot(
+            Map<TrendingWindow, List<TrendingScore>> products,
+            Map<TrendingWindow, Map<Long, List<TrendingScore>>> productsByBrand,
+            Map<TrendingWindow, List<TrendingScore>> brands
+    ) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.loopers.infrastructure.product.trending;
+
+import com.loopers.domain.product.vo.TrendingWindow;
+
+import java.time.Duration;
+
+/**
+ * 상품/브랜드 하나의 기간별 좋아요 수.
+ * 기간마다 해당 단위의 링을 따로 둔다 (1시간: 분 60칸, 24시간: 시간 24칸, 7일: 일 7칸).
+ * 칸 수가 고정이라 좋아요가 많아도 메모리가 늘지 않고, 현재 칸은 진행 중인 구간까지만 포함한다.
+ */
+public class WindowedLikeCounter {
+    private final BucketRing minutes = new BucketRing(60, Duration.ofMinutes(1).toMillis());
+    private final BucketRing hours = new BucketRing(24, Duration.ofHours(1).toMillis());
+    private final BucketRing days = new BucketRing(7, Duration.ofDays(1).toMillis());
+
+    public synchronized void add(long delta, long timeMillis) {
+        minutes.add(delta, timeMillis);
+        hours.add(delta, timeMillis);
+        days.add(delta, timeMillis);
+    }
+
+    // 좋아요 취소가 이전 기간의 좋아요를 상쇄할 수 있어 0 미만은 0으로 본다
+    public synchronized long sum(TrendingWindow window, long nowMillis) {
+        long sum = switch (window) {
+            case HOUR -> minutes.sum(nowMillis);
+            case DAY -> hours.sum(nowMillis);
+            case WEEK -> days.sum(nowMillis);
+        };
+        return Math.max(sum, 0L);
+    }
+
+    // 7일 동안 변화가 없으면 제거 대상
+    public synchronized boolean isEmpty(long nowMillis) {
+        return days.sum(nowMillis) == 0L && hours.sum(nowMillis) == 0L && minutes.sum(nowMillis) == 0L;
+    }
+}
@@ -0,0 +1,124 @@
+package com.loopers.infrastructure.stock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.stock.StockAvailabilityCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 품절 상품을 인스턴스 메모리에 표시해 주문이 DB/Redis 재고를 확인하기 전에 거절되도록 한다.
+ * 표시/해제는 Redis pub/sub으로 다른 인스턴스에 전파하며, 자기 자신이 보낸 메시지는 origin으로 걸러낸다.
+ * 메시지를 놓쳐도 표시는 TTL이 지나면 사라지므로 재입고가 늦게 보일 뿐 계속 막히지는 않는다.
+ */
+@Slf4j
+@Component
+public class StockAvailabilityCacheImpl implements StockAvailabilityCache, MessageListener {
+    static final String CHANNEL = "stock:availability";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Cache<Long, Boolean> soldOut;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Counter rejected;
+
+    public StockAvailabilityCacheImpl(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            ObjectMapper objectMapper,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${stock.sold-out.ttl-ms:10000}") long soldOutTtlMillis
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.soldOut = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofMillis(soldOutTtlMillis))
+                .build();
+        this.rejected = Counter.builder("stock.sold-out.rejected")
+                .description("품절 표시로 재고 확인 없이 거절된 주문 상품 수")
+                .register(meterRegistry);
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public boolean isSoldOut(Long productId) {
+        if (soldOut.getIfPresent(productId) == null) {
+            return false;
+        }
+        rejected.increment();
+        return true;
+    }
+
+    @Override
+    public void markSoldOut(Long productId) {
+        soldOut.put(productId, Boolean.TRUE);
+        publish(productId, true);
+    }
+
+    // 롤백되면 재고가 남아 있으므로 표시하지 않음
+    @Override
+    public void markSoldOutOnCommit(Long productId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markSoldOut(productId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markSoldOut(productId);
+            }
+        });
+    }
+
+    // 커밋 전에 해제해도 다음 주문이 실제 재고를 다시 확인할 뿐이므로 바로 해제
+    @Override
+    public void markAvailable(Long productId) {
+        soldOut.invalidate(productId);
+        publish(productId, false);
+    }
+
+    private void publish(Long productId, boolean isSoldOut) {
+        try {
+            String message = objectMapper.writeValueAsString(new StockAvailabilityMessage(instanceId, productId, isSoldOut));
+            masterRedisTemplate.convertAndSend(CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("품절 상태 메시지 발행 실패 [상품 ID: {}] - {}", productId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            StockAvailabilityMessage availability = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), StockAvailabilityMessage.class);
+            if (instanceId.equals(availability.origin())) {
+                return;
+            }
+            if (availability.soldOut()) {
+                soldOut.put(availability.productId(), Boolean.TRUE);
+            } else {
+                soldOut.invalidate(availability.productId());
+            }
+        } catch (Exception e) {
+            log.warn("품절 상태 메시지 처리 실패 - {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.loopers.infrastructure.stock;
+
+// 인스턴스 간 품절 표시/해제 메시지
+public record StockAvailabilityMessage(
+        String origin,
+        Long productId,
+        boolean soldOut
+) {
+}
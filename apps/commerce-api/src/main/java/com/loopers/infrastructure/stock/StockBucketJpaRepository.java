@@ -0,0 +1,26 @@
+package com.loopers.infrastructure.stock;
+
+import com.loopers.domain.stock.StockBucket;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface StockBucketJpaRepository extends JpaRepository<StockBucket, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from StockBucket b where b.refProductId = :refProductId order by b.bucketNo")
+    @QueryHints(value = {@QueryHint(name = "javax.persistence.lock.timeout", value = "5000")})
+    List<StockBucket> findAllByRefProductIdWithLock(Long refProductId);
+    // 바로 삭제해 같은 bucket 번호로 다시 나눌 때 유니크 키가 겹치지 않도록 함
+    @Modifying
+    @Query("delete from StockBucket b where b.refProductId = :refProductId")
+    void deleteAllByRefProductId(Long refProductId);
+    @Query("select b.refProductId, sum(b.quantity) from StockBucket b where b.refProductId in :refProductIds group by b.refProductId")
+    List<Object[]> sumQuantityGroupByRefProductId(Collection<Long> refProductIds);
+}
@@ -0,0 +1,102 @@
+package com.loopers.infrastructure.stock;
+
+import com.loopers.domain.stock.StockBucket;
+import com.loopers.domain.stock.StockBucketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * bucket으로 나눈 상품 목록은 메모리에 두고 주기적으로 갱신해 주문마다 조회하지 않는다.
+ * 목록이 늦게 반영되더라도 StockService가 stock 행/bucket 양쪽을 확인하므로 재고 수량은 어긋나지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class StockBucketRepositoryImpl implements StockBucketRepository {
+    private static final String SELECT_BUCKETED_PRODUCTS = "SELECT DISTINCT ref_product_id FROM stock_bucket";
+    private static final String SELECT_AVAILABLE_BUCKETS =
+            "SELECT bucket_no FROM stock_bucket WHERE ref_product_id = ? AND quantity >= ?";
+    private static final String DECREMENT_BUCKET =
+            "UPDATE stock_bucket SET quantity = quantity - ? WHERE ref_product_id = ? AND bucket_no = ? AND quantity >= ?";
+
+    private final StockBucketJpaRepository stockBucketJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Set<Long> bucketedProductIds = Set.of();
+
+    @Override
+    public boolean isBucketed(Long refProductId) {
+        return bucketedProductIds.contains(refProductId);
+    }
+
+    @Override
+    public List<StockBucket> saveAll(List<StockBucket> buckets) {
+        List<StockBucket> saved = stockBucketJpaRepository.saveAll(buckets);
+        buckets.forEach(bucket -> markBucketed(bucket.getRefProductId(), true));
+        return saved;
+    }
+
+    @Override
+    public List<StockBucket> findAllByRefProductIdWithLock(Long refProductId) {
+        return stockBucketJpaRepository.findAllByRefProductIdWithLock(refProductId);
+    }
+
+    @Override
+    public void deleteAllByRefProductId(Long refProductId) {
+        stockBucketJpaRepository.deleteAllByRefProductId(refProductId);
+        markBucketed(refProductId, false);
+    }
+
+    @Override
+    public List<Integer> findBucketNosWithQuantity(Long refProductId, int quantity) {
+        return jdbcTemplate.queryForList(SELECT_AVAILABLE_BUCKETS, Integer.class, refProductId, quantity);
+    }
+
+    @Override
+    public boolean tryDecrement(Long refProductId, int bucketNo, int quantity) {
+        return jdbcTemplate.update(DECREMENT_BUCKET, quantity, refProductId, bucketNo, quantity) > 0;
+    }
+
+    @Override
+    public Map<Long, Integer> sumQuantities(Collection<Long> refProductIds) {
+        if (refProductIds.isEmpty()) {
+            return Map.of();
+        }
+        // JPQL로 조회해 같은 트랜잭션에서 변경한 bucket이 먼저 반영되도록 함
+        Map<Long, Integer> sums = new HashMap<>();
+        for (Object[] row : stockBucketJpaRepository.sumQuantityGroupByRefProductId(refProductIds)) {
+            sums.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        return sums;
+    }
+
+    // 다른 인스턴스에서 나누거나 합친 상품 반영
+    @Scheduled(fixedDelayString = "${stock.bucket.refresh-interval-ms:10000}")
+    public void refresh() {
+        try {
+            bucketedProductIds = Set.copyOf(jdbcTemplate.queryForList(SELECT_BUCKETED_PRODUCTS, Long.class));
+        } catch (DataAccessException e) {
+            log.warn("재고 bucket 상품 목록 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void markBucketed(Long refProductId, boolean bucketed) {
+        Set<Long> updated = new HashSet<>(bucketedProductIds);
+        if (bucketed) {
+            updated.add(refProductId);
+        } else {
+            updated.remove(refProductId);
+        }
+        bucketedProductIds = Set.copyOf(updated);
+    }
+}
@@ -8,12 +8,19 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface StockJpaRepository extends JpaRepository<Stock,Long> {
     Optional<Stock> findByRefProductId(Long refProductId);
+    List<Stock> findAllByRefProductIdIn(Collection<Long> refProductIds);
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select s from Stock s where s.refProductId = :refProductId")
     @QueryHints(value = {@QueryHint(name = "javax.persistence.lock.timeout", value = "5000")})
     Optional<Stock> findByRefProductIdWithLock(Long refProductId);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Stock s where s.refProductId in :refProductIds order by s.refProductId")
+    @QueryHints(value = {@QueryHint(name = "javax.persistence.lock.timeout", value = "5000")})
+    List<Stock> findAllByRefProductIdInWithLock(Collection<Long> refProductIds);
 }
@@ -0,0 +1,31 @@
+package com.loopers.infrastructure.stock;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * stock 테이블에 반영한 재고 outbox 항목 (stream 항목 id).
+ * 재고 증감과 같은 트랜잭션에서 기록해, ack 전에 종료돼 같은 항목을 다시 읽어도 한 번만 반영되게 한다.
+ * 쓰기/정리는 StockOutboxRelay만 JDBC로 수행한다.
+ */
+@Entity
+@Getter
+@Table(name = "stock_outbox_applied", indexes = @Index(name = "idx_stock_outbox_applied_at", columnList = "applied_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockOutboxAppliedEntry {
+
+    @Id
+    @Column(name = "entry_id", length = 64)
+    private String entryId;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
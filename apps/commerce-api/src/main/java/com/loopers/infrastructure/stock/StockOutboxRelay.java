@@ -0,0 +1,227 @@
+package com.loopers.infrastructure.stock;
+
+import com.loopers.config.redis.RedisConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 재고 outbox(Redis stream)를 읽어 stock 테이블에 반영한다.
+ * 한 번에 읽은 항목을 상품별 증감분으로 합쳐 batch UPDATE 1회로 반영하고, 커밋 후에만 ack 한다.
+ * 반영한 항목 id를 같은 트랜잭션에서 stock_outbox_applied에 기록하고 이미 기록된 항목은 건너뛰므로,
+ * 반영 후 ack 전에 종료돼 같은 묶음을 다시 읽어도 한 번만 반영된다. (기록은 보관 기간이 지나면 정리)
+ * 종료된 다른 인스턴스가 ack 하지 못한 항목은 일정 시간이 지나면 가져와 대신 반영한다.
+ */
+@Slf4j
+@Component
+public class StockOutboxRelay {
+    private static final String GROUP = "stock-outbox-relay";
+    private static final int BATCH_SIZE = 500;
+    // 이 시간 넘게 ack 되지 않은 다른 consumer의 항목은 종료된 인스턴스의 것으로 보고 가져옴
+    private static final Duration CLAIM_MIN_IDLE = Duration.ofSeconds(30);
+    private static final String UPDATE_STOCK = "UPDATE stock SET quantity = quantity + ? WHERE ref_product_id = ?";
+    private static final String INSERT_APPLIED = "INSERT INTO stock_outbox_applied (entry_id, applied_at) VALUES (?, ?)";
+    private static final String DELETE_APPLIED = "DELETE FROM stock_outbox_applied WHERE applied_at < ? LIMIT 1000";
+    // ack 전 종료 후 다시 읽는 묶음은 곧바로 처리되므로 하루면 충분
+    private static final Duration APPLIED_RETENTION = Duration.ofDays(1);
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate relayTransaction;
+    private final boolean enabled;
+    private final String consumerName;
+    private volatile boolean groupReady = false;
+
+    public StockOutboxRelay(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${stock.reservation.enabled:true}") boolean enabled
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.relayTransaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.consumerName = "relay-" + hostName();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+        ensureGroup();
+    }
+
+    @Scheduled(fixedDelayString = "${stock.outbox.relay-interval-ms:500}")
+    public void relay() {
+        if (!enabled || !ensureGroup()) {
+            return;
+        }
+        try {
+            claimIdle();
+            // 이전에 읽고 반영하지 못한 항목 먼저, 없으면 새 항목
+            List<MapRecord<String, Object, Object>> records = read(ReadOffset.from("0"));
+            if (records.isEmpty()) {
+                records = read(ReadOffset.lastConsumed());
+            }
+            if (!records.isEmpty()) {
+                apply(records);
+            }
+        } catch (RuntimeException e) {
+            log.warn("재고 outbox 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    // 그룹 생성에 실패하면(Redis 장애 등) 다음 주기에 다시 시도
+    private boolean ensureGroup() {
+        if (groupReady) {
+            return true;
+        }
+        try {
+            // 아직 outbox 항목이 없어도 그룹이 만들어지도록 stream도 함께 생성 (MKSTREAM)
+            masterRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands().xGroupCreate(
+                    StockReservationRepositoryImpl.KEY_OUTBOX.getBytes(StandardCharsets.UTF_8), GROUP, ReadOffset.from("0"), true));
+        } catch (DataAccessException e) {
+            if (!isBusyGroup(e)) {
+                log.warn("재고 outbox consumer group 생성 실패: {}", e.getMessage());
+                return false;
+            }
+        }
+        groupReady = true;
+        return true;
+    }
+
+    // 종료된 인스턴스가 읽고 ack 하지 못한 항목을 가져와 이 consumer의 pending 항목으로 만듦 (반영 여부는 stock_outbox_applied로 확인)
+    private void claimIdle() {
+        StreamOperations<String, Object, Object> streamOps = masterRedisTemplate.opsForStream();
+        RecordId[] idleIds = streamOps.pending(StockReservationRepositoryImpl.KEY_OUTBOX, GROUP, Range.unbounded(), BATCH_SIZE).stream()
+                .filter(message -> !consumerName.equals(message.getConsumerName()))
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(CLAIM_MIN_IDLE) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (idleIds.length > 0) {
+            streamOps.claim(StockReservationRepositoryImpl.KEY_OUTBOX, GROUP, consumerName, CLAIM_MIN_IDLE, idleIds);
+            log.info("재고 outbox 미반영 항목 {}건을 가져옴", idleIds.length);
+        }
+    }
+
+    private List<MapRecord<String, Object, Object>> read(ReadOffset offset) {
+        List<MapRecord<String, Object, Object>> records = masterRedisTemplate.opsForStream().read(
+                Consumer.from(GROUP, consumerName),
+                StreamReadOptions.empty().count(BATCH_SIZE),
+                StreamOffset.create(StockReservationRepositoryImpl.KEY_OUTBOX, offset)
+        );
+        return records == null ? List.of() : records;
+    }
+
+    private void apply(List<MapRecord<String, Object, Object>> records) {
+        relayTransaction.executeWithoutResult(status -> {
+            Set<String> applied = findApplied(records);
+            Map<Long, Long> deltas = new LinkedHashMap<>();
+            List<Object[]> appliedArgs = new ArrayList<>();
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            for (MapRecord<String, Object, Object> record : records) {
+                if (applied.contains(record.getId().getValue())) {
+                    continue;
+                }
+                deltas.merge(
+                        Long.valueOf(String.valueOf(record.getValue().get("productId"))),
+                        Long.valueOf(String.valueOf(record.getValue().get("delta"))),
+                        Long::sum
+                );
+                appliedArgs.add(new Object[]{record.getId().getValue(), now});
+            }
+
+            List<Object[]> batchArgs = new ArrayList<>();
+            deltas.forEach((productId, delta) -> {
+                if (delta != 0) {
+                    batchArgs.add(new Object[]{delta, productId});
+                }
+            });
+            if (!batchArgs.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_STOCK, batchArgs);
+            }
+            if (!appliedArgs.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_APPLIED, appliedArgs);
+            }
+        });
+
+        RecordId[] recordIds = records.stream().map(MapRecord::getId).toArray(RecordId[]::new);
+        StreamOperations<String, Object, Object> streamOps = masterRedisTemplate.opsForStream();
+        streamOps.acknowledge(StockReservationRepositoryImpl.KEY_OUTBOX, GROUP, recordIds);
+        streamOps.delete(StockReservationRepositoryImpl.KEY_OUTBOX, recordIds);
+    }
+
+    // 이번 묶음 중 이미 반영된 항목 (반영 후 ack 전에 종료된 경우)
+    private Set<String> findApplied(List<MapRecord<String, Object, Object>> records) {
+        List<String> entryIds = records.stream().map(record -> record.getId().getValue()).toList();
+        String placeholders = String.join(",", Collections.nCopies(entryIds.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT entry_id FROM stock_outbox_applied WHERE entry_id IN (" + placeholders + ")",
+                String.class, entryIds.toArray()));
+    }
+
+    @Scheduled(fixedDelayString = "${stock.outbox.applied-cleanup-interval-ms:600000}")
+    public void cleanUpApplied() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Timestamp threshold = Timestamp.valueOf(LocalDateTime.now().minus(APPLIED_RETENTION));
+            // 한 번에 많이 지우지 않도록 1000건씩 나눠서 삭제
+            int deleted;
+            do {
+                deleted = jdbcTemplate.update(DELETE_APPLIED, threshold);
+            } while (deleted > 0);
+        } catch (DataAccessException e) {
+            log.warn("재고 outbox 반영 기록 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private static boolean isBusyGroup(DataAccessException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains("BUSYGROUP");
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "local";
+        }
+    }
+}
@@ -3,15 +3,24 @@ package com.loopers.infrastructure.stock;
 import com.loopers.domain.stock.Stock;
 import com.loopers.domain.stock.StockRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RequiredArgsConstructor
 @Component
 public class StockRepositoryImpl implements StockRepository {
+    // 남은 수량이 충분할 때만 차감, 조건 검사와 차감이 한 문장이라 행 잠금을 미리 잡지 않음
+    private static final String DECREMENT_STOCK =
+            "UPDATE stock SET quantity = quantity - ? WHERE ref_product_id = ? AND quantity >= ?";
 
     private final StockJpaRepository stockJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Optional<Stock> findByRefProductIdWithLock(Long refProductId) {
@@ -23,6 +32,11 @@ public class StockRepositoryImpl implements StockRepository {
         return stockJpaRepository.findByRefProductId(refProductId);
     }
 
+    @Override
+    public List<Stock> findAllByRefProductIdIn(Collection<Long> refProductIds) {
+        return stockJpaRepository.findAllByRefProductIdIn(refProductIds);
+    }
+
     @Override
     public Stock save(Stock stock) {
         return stockJpaRepository.save(stock);
@@ -32,4 +46,29 @@ public class StockRepositoryImpl implements StockRepository {
     public Optional<Stock> findById(Long stockId) {
         return stockJpaRepository.findById(stockId);
     }
+
+    @Override
+    public List<Stock> findAllByRefProductIdsWithLock(Collection<Long> refProductIds) {
+        return stockJpaRepository.findAllByRefProductIdInWithLock(refProductIds);
+    }
+
+    @Override
+    public List<Long> tryDecrementAll(Map<Long, Integer> quantities) {
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
+        List<Object[]> args = new ArrayList<>(productIds.size());
+        for (Long productId : productIds) {
+            int quantity = quantities.get(productId);
+            args.add(new Object[]{quantity, productId, quantity});
+        }
+
+        // 여러 상품을 한 번의 batch 로 전송
+        int[] updated = jdbcTemplate.batchUpdate(DECREMENT_STOCK, args);
+        List<Long> failed = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                failed.add(productIds.get(i));
+            }
+        }
+        return failed;
+    }
 }
@@ -0,0 +1,291 @@
+package com.loopers.infrastructure.stock;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.stock.StockAvailabilityCache;
+import com.loopers.domain.stock.StockReservationRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 재고 예약.
+ * 상품별 가용 재고(stock:available:{상품 id})를 Lua 스크립트 하나로 확인/차감해 주문 트랜잭션이 stock 행 잠금을 잡지 않는다.
+ * 예약은 held -> confirmed(주문 커밋) / released(롤백, 만료, 결제 실패) 로 바뀌고, 유지/확정된 예약은 같은 요청을 반복해도 한 번만 반영된다.
+ * 해제된 예약 id로 다시 예약하면 (롤백된 주문의 재시도) 새 예약으로 다시 차감한다.
+ * 확정/해제된 수량은 outbox stream에 기록되어 StockOutboxRelay가 stock 테이블에 비동기로 반영한다.
+ * 가용 재고 키는 처음 예약할 때 stock 테이블 값으로 채우며, 이후에는 Redis 값이 기준이다.
+ */
+@Slf4j
+@Component
+public class StockReservationRepositoryImpl implements StockReservationRepository {
+    static final String KEY_OUTBOX = "stock:outbox";
+    private static final String KEY_AVAILABLE_PREFIX = "stock:available:";
+    private static final String KEY_RESERVATION_PREFIX = "stock:reservation:";
+    private static final String KEY_EXPIRY = "stock:reservations:expiry";
+    // 확정/해제된 예약은 결제 실패 복구와 중복 요청 확인을 위해 일정 기간 보관
+    private static final Duration RETENTION = Duration.ofDays(7);
+
+    // KEYS: 예약 hash, 만료 zset, 상품별 가용 재고... / ARGV: 만료 시각, 예약 id, 수량..., 상품 id...
+    // 반환: {'1', 가용 재고가 0이 된 상품 id...} 예약됨, {'2'} 이전 시도의 예약이 유지/확정된 상태,
+    //       {'0', 상품 id, 가용 재고} 재고 부족, {'-1', 상품 id...} 가용 재고 미적재
+    // 해제된 예약은 재고가 이미 돌아간 상태이므로 같은 id로 다시 시도하면 새로 차감
+    private static final RedisScript<List> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            local state = redis.call('HGET', KEYS[1], '_state')
+            if state == 'held' or state == 'confirmed' then
+                return {'2'}
+            end
+            local n = #KEYS - 2
+            local missing = {'-1'}
+            for i = 1, n do
+                if redis.call('EXISTS', KEYS[i + 2]) == 0 then
+                    missing[#missing + 1] = ARGV[2 + n + i]
+                end
+            end
+            if #missing > 1 then
+                return missing
+            end
+            for i = 1, n do
+                local available = redis.call('GET', KEYS[i + 2])
+                if tonumber(available) < tonumber(ARGV[2 + i]) then
+                    return {'0', ARGV[2 + n + i], available}
+                end
+            end
+            redis.call('DEL', KEYS[1])
+            local result = {'1'}
+            for i = 1, n do
+                if redis.call('DECRBY', KEYS[i + 2], ARGV[2 + i]) <= 0 then
+                    result[#result + 1] = ARGV[2 + n + i]
+                end
+                redis.call('HSET', KEYS[1], ARGV[2 + n + i], ARGV[2 + i])
+            end
+            redis.call('HSET', KEYS[1], '_state', 'held')
+            redis.call('ZADD', KEYS[2], ARGV[1], ARGV[2])
+            return result
+            """, List.class);
+
+    // KEYS: 예약 hash, 만료 zset, outbox / ARGV: 예약 id, 보관 시간(초)
+    private static final RedisScript<Long> CONFIRM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], '_state') ~= 'held' then
+                return 0
+            end
+            local fields = redis.call('HGETALL', KEYS[1])
+            for i = 1, #fields, 2 do
+                if fields[i] ~= '_state' then
+                    redis.call('XADD', KEYS[3], '*', 'productId', fields[i], 'delta', '-' .. fields[i + 1])
+                end
+            end
+            redis.call('HSET', KEYS[1], '_state', 'confirmed')
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // KEYS: 예약 hash, 만료 zset, outbox / ARGV: 예약 id, 보관 시간(초), 가용 재고 키 prefix / 반환: 해제된 상품 id...
+    // 확정 전이면 가용 재고만 되돌리고, 확정 후면 stock 테이블에도 되돌리도록 outbox 기록
+    private static final RedisScript<List> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local state = redis.call('HGET', KEYS[1], '_state')
+            if state ~= 'held' and state ~= 'confirmed' then
+                return {}
+            end
+            local released = {}
+            local fields = redis.call('HGETALL', KEYS[1])
+            for i = 1, #fields, 2 do
+                if fields[i] ~= '_state' then
+                    released[#released + 1] = fields[i]
+                    local available = ARGV[3] .. fields[i]
+                    if redis.call('EXISTS', available) == 1 then
+                        redis.call('INCRBY', available, fields[i + 1])
+                    end
+                    if state == 'confirmed' then
+                        redis.call('XADD', KEYS[3], '*', 'productId', fields[i], 'delta', fields[i + 1])
+                    end
+                end
+            end
+            redis.call('HSET', KEYS[1], '_state', 'released')
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            return released
+            """, List.class);
+
+    // KEYS: 가용 재고 / ARGV: 추가 수량
+    private static final RedisScript<Long> ADD_AVAILABLE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return redis.call('INCRBY', KEYS[1], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final StockAvailabilityCache stockAvailabilityCache;
+    private final boolean enabled;
+    private final Duration reservationTtl;
+
+    public StockReservationRepositoryImpl(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+            JdbcTemplate jdbcTemplate,
+            StockAvailabilityCache stockAvailabilityCache,
+            @Value("${stock.reservation.enabled:true}") boolean enabled,
+            @Value("${stock.reservation.ttl-seconds:600}") long reservationTtlSeconds
+    ) {
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.stockAvailabilityCache = stockAvailabilityCache;
+        this.enabled = enabled;
+        this.reservationTtl = Duration.ofSeconds(reservationTtlSeconds);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void reserve(String reservationId, Map<Long, Integer> quantities) {
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
+        List<String> keys = new ArrayList<>();
+        keys.add(reservationKey(reservationId));
+        keys.add(KEY_EXPIRY);
+        productIds.forEach(productId -> keys.add(KEY_AVAILABLE_PREFIX + productId));
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(System.currentTimeMillis() + reservationTtl.toMillis()));
+        args.add(reservationId);
+        productIds.forEach(productId -> args.add(String.valueOf(quantities.get(productId))));
+        productIds.forEach(productId -> args.add(String.valueOf(productId)));
+
+        List<?> result = execute(keys, args);
+        if ("-1".equals(String.valueOf(result.get(0)))) {
+            // 처음 주문되는 상품은 stock 테이블 값으로 가용 재고를 채운 뒤 한 번 더 시도
+            loadAvailable(result.subList(1, result.size()).stream().map(id -> Long.valueOf(String.valueOf(id))).toList());
+            result = execute(keys, args);
+        }
+
+        String code = String.valueOf(result.get(0));
+        if ("0".equals(code)) {
+            Long productId = Long.valueOf(String.valueOf(result.get(1)));
+            if (Long.parseLong(String.valueOf(result.get(2))) <= 0) {
+                stockAvailabilityCache.markSoldOut(productId);
+            }
+            throw new CoreException(ErrorType.BAD_REQUEST, "재고가 부족합니다. (상품 ID: " + productId + ")");
+        }
+        if ("2".equals(code)) {
+            // 이전 시도가 남긴 예약은 그 시도의 커밋/롤백 또는 만료 정리가 처리하므로 이번 트랜잭션 결과로 확정/해제하지 않음
+            return;
+        }
+        if (!"1".equals(code)) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "재고 예약에 실패했습니다.");
+        }
+        // 이번 예약으로 가용 재고가 0이 된 상품 (롤백되면 해제 시 다시 표시가 풀림)
+        result.subList(1, result.size()).forEach(productId ->
+                stockAvailabilityCache.markSoldOut(Long.valueOf(String.valueOf(productId))));
+
+        registerCompletion(reservationId);
+    }
+
+    @Override
+    public void confirm(String reservationId) {
+        masterRedisTemplate.execute(CONFIRM_SCRIPT,
+                List.of(reservationKey(reservationId), KEY_EXPIRY, KEY_OUTBOX),
+                reservationId, String.valueOf(RETENTION.toSeconds()));
+    }
+
+    @Override
+    public void release(String reservationId) {
+        List<?> released = masterRedisTemplate.execute(RELEASE_SCRIPT,
+                List.of(reservationKey(reservationId), KEY_EXPIRY, KEY_OUTBOX),
+                reservationId, String.valueOf(RETENTION.toSeconds()), KEY_AVAILABLE_PREFIX);
+        if (released != null) {
+            released.forEach(productId -> stockAvailabilityCache.markAvailable(Long.valueOf(String.valueOf(productId))));
+        }
+    }
+
+    // 재입고 수량을 커밋 뒤 가용 재고에 더함 (아직 채워지지 않은 상품은 처음 예약할 때 stock 테이블 값으로 채워짐)
+    @Override
+    public void addAvailable(Long productId, int quantity) {
+        Runnable increase = () -> masterRedisTemplate.execute(ADD_AVAILABLE_SCRIPT,
+                List.of(KEY_AVAILABLE_PREFIX + productId), String.valueOf(quantity));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increase.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increase.run();
+            }
+        });
+    }
+
+    @Override
+    public List<String> findExpiredReservationIds(int limit) {
+        Set<String> expired = masterRedisTemplate.opsForZSet()
+                .rangeByScore(KEY_EXPIRY, 0, System.currentTimeMillis(), 0, limit);
+        return expired == null ? List.of() : new ArrayList<>(expired);
+    }
+
+    private List<?> execute(List<String> keys, List<String> args) {
+        List<?> result = masterRedisTemplate.execute(RESERVE_SCRIPT, keys, args.toArray());
+        if (result == null || result.isEmpty()) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "재고 예약에 실패했습니다.");
+        }
+        return result;
+    }
+
+    // 다른 인스턴스가 먼저 채웠으면 그 값을 유지 (SET NX), bucket으로 나눈 상품은 bucket 합계까지 포함
+    private void loadAvailable(List<Long> productIds) {
+        String placeholders = String.join(",", Collections.nCopies(productIds.size(), "?"));
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT s.ref_product_id, s.quantity + COALESCE((SELECT SUM(b.quantity) FROM stock_bucket b WHERE b.ref_product_id = s.ref_product_id), 0) AS quantity"
+                        + " FROM stock s WHERE s.ref_product_id IN (" + placeholders + ")", productIds.toArray());
+        if (rows.size() < productIds.size()) {
+            throw new CoreException(ErrorType.NOT_FOUND, "재고가 존재하지 않습니다.");
+        }
+        for (Map<String, Object> row : rows) {
+            masterRedisTemplate.opsForValue().setIfAbsent(
+                    KEY_AVAILABLE_PREFIX + row.get("ref_product_id"), String.valueOf(row.get("quantity")));
+        }
+    }
+
+    // 주문 트랜잭션이 커밋되면 확정, 롤백되면 즉시 해제 (실패해도 만료 시 OrderReservationSweeper가 정리)
+    private void registerCompletion(String reservationId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        confirm(reservationId);
+                    } else {
+                        release(reservationId);
+                    }
+                } catch (DataAccessException e) {
+                    log.warn("재고 예약 {} 처리 실패 - 만료 시 정리됩니다. {}", reservationId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private static String reservationKey(String reservationId) {
+        return KEY_RESERVATION_PREFIX + reservationId;
+    }
+}
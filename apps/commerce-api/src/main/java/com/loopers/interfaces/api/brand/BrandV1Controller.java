@@ -2,12 +2,14 @@ package com.loopers.interfaces.api.brand;
 
 import com.loopers.application.brand.BrandFacade;
 import com.loopers.application.brand.out.BrandInfo;
+import com.loopers.domain.product.vo.TrendingWindow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -17,6 +19,15 @@ public class BrandV1Controller {
 
     private final BrandFacade brandFacade;
 
+    @GetMapping("/trending")
+    public ResponseEntity<BrandV1Dto.TrendingBrandListResponse> getTrending(
+            @RequestParam(required = false) String window,
+            @RequestParam(defaultValue = "10") int size) {
+        BrandV1Dto.TrendingBrandListResponse response = BrandV1Dto.TrendingBrandListResponse.from(
+                brandFacade.getTrendingBrands(TrendingWindow.fromString(window), size));
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     @GetMapping("/{brandId}")
     public ResponseEntity<BrandV1Dto.BrandInfoResponse> get(@PathVariable Long brandId){
         BrandInfo brandInfo = brandFacade.get(brandId);
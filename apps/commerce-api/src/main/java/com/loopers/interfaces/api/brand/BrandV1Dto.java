@@ -1,6 +1,9 @@
 package com.loopers.interfaces.api.brand;
 
 import com.loopers.application.brand.out.BrandInfo;
+import com.loopers.application.brand.out.TrendingBrandInfo;
+
+import java.util.List;
 
 public class BrandV1Dto {
     public record BrandInfoResponse(
@@ -17,4 +20,27 @@ public class BrandV1Dto {
         }
     }
 
+    public record TrendingBrandResponse(
+            Long id,
+            String name,
+            long likeCount
+    ) {
+        public static TrendingBrandResponse from(TrendingBrandInfo info) {
+            return new TrendingBrandResponse(
+                    info.id(),
+                    info.name(),
+                    info.likeCount()
+            );
+        }
+    }
+
+    public record TrendingBrandListResponse(
+            List<TrendingBrandResponse> brands
+    ) {
+        public static TrendingBrandListResponse from(List<TrendingBrandInfo> infos) {
+            return new TrendingBrandListResponse(
+                    infos.stream().map(TrendingBrandResponse::from).toList()
+            );
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.loopers.interfaces.api.like;
 
 import com.loopers.application.like.LikeFacade;
 import com.loopers.application.like.in.LikeActionCommand;
+import com.loopers.application.like.out.LikedProductsCursorResult;
 import com.loopers.application.like.out.LikedProductsResult;
 import com.loopers.support.auth.AuthenticatedUserIdProvider;
 import jakarta.servlet.http.HttpServletRequest;
@@ -52,4 +53,16 @@ public class LikeV1Controller {
         Page<LikeV1Dto.LikedProductResponse> response = result.map(LikeV1Dto.LikedProductResponse::from);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
+
+    @GetMapping("/products/cursor")
+    public ResponseEntity<LikeV1Dto.LikedProductCursorResponse> getLikedProductsByCursor(
+            HttpServletRequest headers,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Long refUserId = AuthenticatedUserIdProvider.getUserId(headers);
+
+        LikedProductsCursorResult result = likeFacade.getLikedProductsByCursor(refUserId, cursor, size);
+        LikeV1Dto.LikedProductCursorResponse response = LikeV1Dto.LikedProductCursorResponse.from(result);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
 }
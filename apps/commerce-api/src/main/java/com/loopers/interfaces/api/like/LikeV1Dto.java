@@ -1,9 +1,11 @@
 package com.loopers.interfaces.api.like;
 
 import com.loopers.application.like.in.LikeActionCommand;
+import com.loopers.application.like.out.LikedProductsCursorResult;
 import com.loopers.application.like.out.LikedProductsResult;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 public class LikeV1Dto {
     public record LikeActionRequest(
@@ -36,7 +38,8 @@ public class LikeV1Dto {
             BigDecimal sellingPrice,
             String saleStatus,
             Long likeId,
-            Boolean liked
+            Boolean liked,
+            Long likeCount
     ) {
         public static LikedProductResponse from(LikedProductsResult result){
             return new LikedProductResponse(
@@ -46,7 +49,24 @@ public class LikeV1Dto {
                     result.sellingPrice(),
                     result.saleStatus(),
                     result.likeId(),
-                    result.liked()
+                    result.liked(),
+                    result.likeCount()
+            );
+        }
+    }
+
+    public record LikedProductCursorResponse(
+            List<LikedProductResponse> content,
+            int size,
+            String nextCursor,
+            boolean hasNext
+    ) {
+        public static LikedProductCursorResponse from(LikedProductsCursorResult result) {
+            return new LikedProductCursorResponse(
+                    result.content().stream().map(LikedProductResponse::from).toList(),
+                    result.size(),
+                    result.nextCursor(),
+                    result.hasNext()
             );
         }
     }
@@ -2,7 +2,9 @@ package com.loopers.interfaces.api.product;
 
 import com.loopers.application.product.ProductFacade;
 import com.loopers.application.product.out.ProductDetailInfo;
+import com.loopers.domain.product.ProductCursorPage;
 import com.loopers.domain.product.vo.ProductSortType;
+import com.loopers.domain.product.vo.TrendingWindow;
 import com.loopers.interfaces.api.ApiResponse;
 import com.loopers.support.auth.AuthenticatedUserIdProvider;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,7 +16,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,7 +30,17 @@ public class ProductV1Controller {
     public ResponseEntity<ApiResponse<ProductV1Dto.ProductInfoResponse>> get(@PathVariable Long productId, HttpServletRequest headers){
         Long userId = AuthenticatedUserIdProvider.getUserId(headers);
         ProductDetailInfo productDetailInfo = productFacade.getDetail(productId);
-        ProductV1Dto.ProductInfoResponse response = ProductV1Dto.ProductInfoResponse.from(productDetailInfo);
+        boolean liked = productFacade.getLikedProductIds(userId, List.of(productId)).contains(productId);
+        ProductV1Dto.ProductInfoResponse response = ProductV1Dto.ProductInfoResponse.from(productDetailInfo, liked);
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(response));
+    }
+
+    @GetMapping("/details")
+    public ResponseEntity<ApiResponse<ProductV1Dto.ProductInfoListResponse>> getDetails(@RequestParam List<Long> productIds, HttpServletRequest headers){
+        Long userId = AuthenticatedUserIdProvider.getUserId(headers);
+        List<ProductDetailInfo> productDetailInfos = productFacade.getDetails(productIds);
+        Set<Long> likedProductIds = productFacade.getLikedProductIds(userId, productDetailInfos.stream().map(ProductDetailInfo::id).toList());
+        ProductV1Dto.ProductInfoListResponse response = ProductV1Dto.ProductInfoListResponse.from(productDetailInfos, likedProductIds);
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(response));
     }
 
@@ -34,12 +48,44 @@ public class ProductV1Controller {
     public ResponseEntity<ApiResponse<ProductV1Dto.ProductListResponse>> getProducts(
             @RequestParam(required = false) Long brandId, 
             @RequestParam(defaultValue = "LATEST") String sortType,
+            @RequestParam(required = false) String window,
             HttpServletRequest headers, 
             @PageableDefault Pageable pageable) {
         Long userId = AuthenticatedUserIdProvider.getUserId(headers);
         ProductSortType productSortType = ProductSortType.fromString(sortType);
-        Page<ProductWithLikeCountDto> productPage = productFacade.getProducts(brandId, productSortType, pageable);
-        ProductV1Dto.ProductListResponse response = ProductV1Dto.ProductListResponse.from(productPage);
+        TrendingWindow trendingWindow = TrendingWindow.fromString(window);
+        Page<ProductWithLikeCountDto> productPage = productFacade.getProducts(brandId, productSortType, trendingWindow, pageable);
+        Set<Long> likedProductIds = productFacade.getLikedProductIds(userId, productPage.getContent().stream().map(ProductWithLikeCountDto::productId).toList());
+        ProductV1Dto.ProductListResponse response = ProductV1Dto.ProductListResponse.from(productPage, likedProductIds);
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(response));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<ProductV1Dto.ProductListResponse>> searchProducts(
+            @RequestParam String keyword,
+            @RequestParam(required = false) Long brandId,
+            @RequestParam(defaultValue = "LATEST") String sortType,
+            HttpServletRequest headers,
+            @PageableDefault Pageable pageable) {
+        Long userId = AuthenticatedUserIdProvider.getUserId(headers);
+        ProductSortType productSortType = ProductSortType.fromString(sortType);
+        Page<ProductWithLikeCountDto> productPage = productFacade.searchProducts(keyword, brandId, productSortType, pageable);
+        Set<Long> likedProductIds = productFacade.getLikedProductIds(userId, productPage.getContent().stream().map(ProductWithLikeCountDto::productId).toList());
+        ProductV1Dto.ProductListResponse response = ProductV1Dto.ProductListResponse.from(productPage, likedProductIds);
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(response));
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<ProductV1Dto.ProductCursorResponse>> getProductsByCursor(
+            @RequestParam(required = false) Long brandId,
+            @RequestParam(defaultValue = "LATEST") String sortType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest headers) {
+        Long userId = AuthenticatedUserIdProvider.getUserId(headers);
+        ProductSortType productSortType = ProductSortType.fromString(sortType);
+        ProductCursorPage productCursorPage = productFacade.getProductsByCursor(brandId, productSortType, cursor, size);
+        ProductV1Dto.ProductCursorResponse response = ProductV1Dto.ProductCursorResponse.from(productCursorPage);
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(response));
     }
 }
@@ -1,10 +1,13 @@
 package com.loopers.interfaces.api.product;
 
 import com.loopers.application.product.out.ProductDetailInfo;
+import com.loopers.domain.product.ProductCursorPage;
+import com.loopers.domain.product.vo.SaleStatus;
 import org.springframework.data.domain.Page;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Set;
 
 public class ProductV1Dto {
     
@@ -17,10 +20,15 @@ public class ProductV1Dto {
             BigDecimal sellingPrice,
             Long likeCount,
             Long brandId,
-            String brandName
-            // 상품 id, 상품명, 상품설명, 판매상태, 원가, 할인가, 브랜드 id, 브랜드명, 좋아요 수
+            String brandName,
+            boolean liked
+            // 상품 id, 상품명, 상품설명, 판매상태, 원가, 할인가, 브랜드 id, 브랜드명, 좋아요 수, 내 좋아요 여부
     ){
         public static ProductInfoResponse from(ProductDetailInfo info){
+            return from(info, false);
+        }
+
+        public static ProductInfoResponse from(ProductDetailInfo info, boolean liked){
             return new ProductInfoResponse(
                     info.id(),
                     info.name(),
@@ -30,13 +38,52 @@ public class ProductV1Dto {
                     info.sellingPrice(),
                     info.likeCount(),
                     info.brandId(),
-                    info.brandName()
+                    info.brandName(),
+                    liked
+            );
+        }
+    }
+
+    public record ProductInfoListResponse(
+            List<ProductInfoResponse> products
+    ) {
+        public static ProductInfoListResponse from(List<ProductDetailInfo> infos, Set<Long> likedProductIds) {
+            return new ProductInfoListResponse(
+                    infos.stream()
+                            .map(info -> ProductInfoResponse.from(info, likedProductIds.contains(info.id())))
+                            .toList()
+            );
+        }
+    }
+
+    public record ProductListItemResponse(
+            Long productId,
+            String productName,
+            BigDecimal originalPrice,
+            BigDecimal sellingPrice,
+            SaleStatus saleStatus,
+            Long brandId,
+            String brandName,
+            Long likeCount,
+            boolean liked
+    ) {
+        public static ProductListItemResponse from(ProductWithLikeCountDto dto, boolean liked) {
+            return new ProductListItemResponse(
+                    dto.productId(),
+                    dto.productName(),
+                    dto.originalPrice(),
+                    dto.sellingPrice(),
+                    dto.saleStatus(),
+                    dto.brandId(),
+                    dto.brandName(),
+                    dto.likeCount(),
+                    liked
             );
         }
     }
 
     public record ProductListResponse(
-            List<ProductWithLikeCountDto> content,
+            List<ProductListItemResponse> content,
             int page,
             int size,
             long totalElements,
@@ -46,9 +93,11 @@ public class ProductV1Dto {
             boolean hasNext,
             boolean hasPrevious
     ) {
-        public static ProductListResponse from(Page<ProductWithLikeCountDto> productPage) {
+        public static ProductListResponse from(Page<ProductWithLikeCountDto> productPage, Set<Long> likedProductIds) {
             return new ProductListResponse(
-                    productPage.getContent(),
+                    productPage.getContent().stream()
+                            .map(dto -> ProductListItemResponse.from(dto, likedProductIds.contains(dto.productId())))
+                            .toList(),
                     productPage.getNumber(),
                     productPage.getSize(),
                     productPage.getTotalElements(),
@@ -60,4 +109,20 @@ public class ProductV1Dto {
             );
         }
     }
+
+    public record ProductCursorResponse(
+            List<ProductWithLikeCountDto> content,
+            int size,
+            String nextCursor,
+            boolean hasNext
+    ) {
+        public static ProductCursorResponse from(ProductCursorPage productCursorPage) {
+            return new ProductCursorResponse(
+                    productCursorPage.content(),
+                    productCursorPage.size(),
+                    productCursorPage.nextCursor(),
+                    productCursorPage.hasNext()
+            );
+        }
+    }
 }
@@ -0,0 +1,37 @@
+package com.loopers.interfaces.api.stock;
+
+import com.loopers.application.stock.StockFacade;
+import com.loopers.interfaces.api.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+// 운영용 재고 bucket 설정
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api-admin/v1/stocks")
+public class StockAdminController {
+    private final StockFacade stockFacade;
+
+    @PostMapping("/{productId}/buckets")
+    public ResponseEntity<ApiResponse<StockAdminDto.StockBucketResponse>> splitIntoBuckets(
+            @PathVariable Long productId,
+            @RequestParam int count) {
+        StockAdminDto.StockBucketResponse response = StockAdminDto.StockBucketResponse.from(
+                stockFacade.splitIntoBuckets(productId, count));
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(response));
+    }
+
+    @DeleteMapping("/{productId}/buckets")
+    public ResponseEntity<ApiResponse<StockAdminDto.StockBucketResponse>> mergeBuckets(@PathVariable Long productId) {
+        StockAdminDto.StockBucketResponse response = StockAdminDto.StockBucketResponse.from(
+                stockFacade.mergeBuckets(productId));
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponse.success(response));
+    }
+}
@@ -0,0 +1,21 @@
+package com.loopers.interfaces.api.stock;
+
+import com.loopers.application.stock.out.StockBucketInfo;
+
+import java.util.List;
+
+public class StockAdminDto {
+    public record StockBucketResponse(
+            Long productId,
+            int totalQuantity,
+            List<Integer> bucketQuantities
+    ) {
+        public static StockBucketResponse from(StockBucketInfo info) {
+            return new StockBucketResponse(
+                    info.productId(),
+                    info.totalQuantity(),
+                    info.bucketQuantities()
+            );
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.loopers.application.dummy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikePairSequenceTest {
+
+    @Test
+    @DisplayName("요청한 수만큼 중복 없는 (사용자, 상품) 조합을 범위 안에서 생성한다.")
+    void next_returnsUniquePairsWithinRange() {
+        // given
+        LikePairSequence sequence = new LikePairSequence(7, 1000, 5000, new Random(42));
+        Set<LikePairSequence.LikePair> pairs = new HashSet<>();
+
+        // when
+        while (sequence.hasNext()) {
+            pairs.add(sequence.next());
+        }
+
+        // then
+        assertThat(pairs).hasSize(5000);
+        assertThat(pairs).allSatisfy(pair -> {
+            assertThat(pair.userId()).isBetween(1L, 7L);
+            assertThat(pair.productId()).isBetween(1L, 1000L);
+        });
+    }
+
+    @Test
+    @DisplayName("요청한 수가 전체 조합 수보다 많으면 전체 조합을 한 번씩만 생성한다.")
+    void next_coversWholeSpace_whenCountExceedsTotal() {
+        // given
+        LikePairSequence sequence = new LikePairSequence(6, 10, 1000, new Random(7));
+        Set<LikePairSequence.LikePair> pairs = new HashSet<>();
+        int emitted = 0;
+
+        // when
+        while (sequence.hasNext()) {
+            pairs.add(sequence.next());
+            emitted++;
+        }
+
+        // then
+        assertThat(emitted).isEqualTo(60);
+        assertThat(pairs).hasSize(60);
+    }
+}
@@ -5,6 +5,7 @@ import com.loopers.domain.like.Like;
 import com.loopers.domain.like.LikeRepository;
 import com.loopers.domain.like.LikeService;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductLikeCountBuffer;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.ProductService;
 import com.loopers.domain.user.User;
@@ -48,6 +49,9 @@ public class LikeFacadeConcurrencyTest {
     @Autowired
     private LikeRepository likeRepository;
 
+    @Autowired
+    private ProductLikeCountBuffer productLikeCountBuffer;
+
     private final int threadCount = 10;
 
     private Long userId1;
@@ -97,7 +101,7 @@ public class LikeFacadeConcurrencyTest {
         CountDownLatch latch = new CountDownLatch(threadCount);
 
         // 초기 좋아요 수 확인
-        Product initialProduct = productService.getDetail(productId1);
+        Product initialProduct = productRepository.findById(productId1).orElseThrow();
         Long initialLikeCount = initialProduct.getLikeCount();
 
         for (int i = 0; i < threadCount; i++) {
@@ -123,8 +127,9 @@ public class LikeFacadeConcurrencyTest {
         latch.await();
         executorService.shutdown();
 
-        // 검증
-        Product finalProduct = productService.getDetail(productId1);
+        // 검증 - 버퍼에 누적된 좋아요 수를 반영한 뒤 DB 값으로 확인
+        productLikeCountBuffer.flush();
+        Product finalProduct = productRepository.findById(productId1).orElseThrow();
         List<Like> likes = likeRepository.findAllByProductId(productId1);
 
         System.out.println("초기 좋아요 수 = " + initialLikeCount);
@@ -146,7 +151,7 @@ public class LikeFacadeConcurrencyTest {
         CountDownLatch latch = new CountDownLatch(threadCount);
 
         // 초기 상태: 좋아요 없음
-        Product initialProduct = productService.getDetail(productId1);
+        Product initialProduct = productRepository.findById(productId1).orElseThrow();
         Long initialLikeCount = initialProduct.getLikeCount();
 
         // 성공한 작업들을 추적
@@ -181,8 +186,9 @@ public class LikeFacadeConcurrencyTest {
         latch.await();
         executorService.shutdown();
 
-        // then: 데이터 일관성 검증
-        Product finalProduct = productService.getDetail(productId1);
+        // then: 데이터 일관성 검증 - 버퍼에 누적된 좋아요 수를 반영한 뒤 DB 값으로 확인
+        productLikeCountBuffer.flush();
+        Product finalProduct = productRepository.findById(productId1).orElseThrow();
         List<Like> likes = likeRepository.findAllByUserIdAndProductId(userId1, productId1);
 
         System.out.println("초기 좋아요 수: " + initialLikeCount);
@@ -208,7 +214,7 @@ public class LikeFacadeConcurrencyTest {
         ExecutorService executorService = Executors.newFixedThreadPool(5);
         CountDownLatch latch = new CountDownLatch(operationCount);
 
-        Product initialProduct = productService.getDetail(productId1);
+        Product initialProduct = productRepository.findById(productId1).orElseThrow();
         Long initialLikeCount = initialProduct.getLikeCount();
 
         AtomicBoolean currentLikeState = new AtomicBoolean(false); // 초기에는 좋아요 없음
@@ -243,8 +249,9 @@ public class LikeFacadeConcurrencyTest {
         latch.await();
         executorService.shutdown();
 
-        // then: 데이터 일관성 검증
-        Product finalProduct = productService.getDetail(productId1);
+        // then: 데이터 일관성 검증 - 버퍼에 누적된 좋아요 수를 반영한 뒤 DB 값으로 확인
+        productLikeCountBuffer.flush();
+        Product finalProduct = productRepository.findById(productId1).orElseThrow();
         List<Like> likes = likeRepository.findAllByUserIdAndProductId(userId1, productId1);
 
         // 좋아요 수와 실제 레코드 수가 일치해야 함
@@ -283,9 +290,10 @@ public class LikeFacadeConcurrencyTest {
         latch.await();
         executorService.shutdown();
 
-        // 검증
-        Product product1 = productService.getDetail(productId1);
-        Product product2 = productService.getDetail(productId2);
+        // 검증 - 버퍼에 누적된 좋아요 수를 반영한 뒤 DB 값으로 확인
+        productLikeCountBuffer.flush();
+        Product product1 = productRepository.findById(productId1).orElseThrow();
+        Product product2 = productRepository.findById(productId2).orElseThrow();
         List<Like> likesForProduct1 = likeRepository.findAllByProductId(productId1);
         List<Like> likesForProduct2 = likeRepository.findAllByProductId(productId2);
 
@@ -20,12 +20,14 @@ import com.loopers.domain.user.User;
 import com.loopers.domain.user.UserRepository;
 import com.loopers.domain.user.UserService;
 import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -67,6 +69,12 @@ class OrderFacadeTest {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderPaymentProcessor orderPaymentProcessor;
+
     @DisplayName("주문 성공 - 포인트만 사용")
     @Test
     void placeOrder_successfully_places_order_with_point_only() {
@@ -97,7 +105,8 @@ class OrderFacadeTest {
         assertThat(result.orderId()).isNotNull();
         assertThat(pointRepository.findByRefUserId(user.getId()).get().getBalance().getValue()).isEqualTo(Balance.from(4900L).getValue()); // 포인트 차감 확인
 
-        assertThat(stockRepository.findByRefProductIdWithLock(product.getId()).get().getQuantity())
+        // 재고는 JDBC로 차감되므로 영속성 컨텍스트가 아닌 테이블 값을 확인
+        assertThat(jdbcTemplate.queryForObject("SELECT quantity FROM stock WHERE ref_product_id = ?", Integer.class, product.getId()))
                 .isEqualTo(8); // 재고 차감 확인
 
         // 결제가 생성되었는지 확인
@@ -147,14 +156,19 @@ class OrderFacadeTest {
 
         OrderCreateResult result = orderFacade.placeOrder(command);
 
-        // then
+        // then - PG 요청은 주문 커밋 뒤에 보내므로 아직 호출되지 않음
         assertThat(result.orderId()).isNotNull();
+        verify(pgClient, never()).requestPayment(any());
         
         // 결제가 생성되었는지 확인
         List<Payment> payments = paymentRepository.findByOrderId(result.orderId());
         assertThat(payments).hasSize(1);
         Payment payment = payments.get(0);
         assertThat(payment.getPaymentAmount()).isEqualTo(500L); // 1000 - 500(포인트) = 500원
+
+        // 커밋 뒤 PG 요청 단계 실행
+        orderPaymentProcessor.requestPayment(payment.getPaymentSeq(), "SAMSUNG", "1234-5678-9012-3456");
+        payment = paymentRepository.findByOrderId(result.orderId()).get(0);
         assertThat(payment.getPaymentStatus()).isEqualTo(PaymentStatus.PENDING); // PG 요청 성공 후 PENDING 상태 유지
 
         // 주문이 결제 대기 상태인지 확인 (PG 요청 성공 후 콜백 대기)
@@ -165,9 +179,9 @@ class OrderFacadeTest {
         verify(pgClient).requestPayment(any()); // PG 클라이언트 호출 확인
     }
 
-    @DisplayName("주문 실패 - 카드 결제 PG 요청 실패 (Bad Request)")
+    @DisplayName("주문 취소 - 카드 결제 PG 요청 실패 (Bad Request)")
     @Test
-    void placeOrder_fails_when_pg_request_fails_with_bad_request() {
+    void placeOrder_canceled_when_pg_request_fails_with_bad_request() {
         // given
         User user = userService.register(User.from("userId555", "test5@naver.com", "1995-01-01", "M"));
         Product product = productRepository.save(Product.from("티셔츠5","설명5",BigDecimal.valueOf(1000L), BigDecimal.valueOf(1500L),"ON_SALE", 20L));
@@ -184,7 +198,7 @@ class OrderFacadeTest {
                 )
         );
 
-        // when & then
+        // when
         OrderCreateCommand command = new OrderCreateCommand(
                 user.getId(),
                 items,
@@ -197,8 +211,15 @@ class OrderFacadeTest {
                 "1234-5678-9012-3456"  // 카드 번호
         );
 
-        assertThatThrownBy(() -> orderFacade.placeOrder(command))
-                .isInstanceOf(CoreException.class);
+        OrderCreateResult result = orderFacade.placeOrder(command);
+        assertThat(orderRepository.findById(result.orderId()).get().getOrderStatus()).isEqualTo(OrderStatus.PENDING);
+
+        String paymentSeq = paymentRepository.findByOrderId(result.orderId()).get(0).getPaymentSeq();
+        orderPaymentProcessor.requestPayment(paymentSeq, "SAMSUNG", "1234-5678-9012-3456");
+
+        // then - 결제 실패 처리 후 주문 취소
+        assertThat(paymentRepository.findByOrderId(result.orderId()).get(0).getPaymentStatus()).isEqualTo(PaymentStatus.FAILED);
+        assertThat(orderRepository.findById(result.orderId()).get().getOrderStatus()).isEqualTo(OrderStatus.CANCELED);
 
         verify(pgClient).requestPayment(any());
     }
@@ -236,6 +257,8 @@ class OrderFacadeTest {
         );
 
         OrderCreateResult result = orderFacade.placeOrder(command);
+        String paymentSeq = paymentRepository.findByOrderId(result.orderId()).get(0).getPaymentSeq();
+        orderPaymentProcessor.requestPayment(paymentSeq, "SAMSUNG", "1234-5678-9012-3456");
 
         // then - 주문은 성공하지만 결제는 실패 상태
         assertThat(result.orderId()).isNotNull();
@@ -281,6 +304,8 @@ class OrderFacadeTest {
         );
 
         OrderCreateResult result = orderFacade.placeOrder(command);
+        String paymentSeq = paymentRepository.findByOrderId(result.orderId()).get(0).getPaymentSeq();
+        orderPaymentProcessor.requestPayment(paymentSeq, "SAMSUNG", "1234-5678-9012-3456");
 
         // then - 주문은 성공하지만 결제는 실패 상태
         assertThat(result.orderId()).isNotNull();
@@ -293,9 +318,9 @@ class OrderFacadeTest {
         verify(pgClient).requestPayment(any());
     }
 
-    @DisplayName("주문 실패 - 카드 결제 PG 요청 실패 (Internal Server Error)")
+    @DisplayName("주문 취소 - 카드 결제 PG 요청 실패 (Internal Server Error)")
     @Test
-    void placeOrder_fails_when_pg_request_fails_with_internal_server_error() {
+    void placeOrder_canceled_when_pg_request_fails_with_internal_server_error() {
         // given
         User user = userService.register(User.from("userId666", "test6@naver.com", "1995-01-01", "F"));
         Product product = productRepository.save(Product.from("티셔츠6","설명6",BigDecimal.valueOf(1000L), BigDecimal.valueOf(1500L),"ON_SALE", 20L));
@@ -312,7 +337,7 @@ class OrderFacadeTest {
                 )
         );
 
-        // when & then
+        // when
         OrderCreateCommand command = new OrderCreateCommand(
                 user.getId(),
                 items,
@@ -325,8 +350,15 @@ class OrderFacadeTest {
                 "1234-5678-9012-3456"  // 카드 번호
         );
 
-        assertThatThrownBy(() -> orderFacade.placeOrder(command))
-                .isInstanceOf(CoreException.class);
+        OrderCreateResult result = orderFacade.placeOrder(command);
+        assertThat(orderRepository.findById(result.orderId()).get().getOrderStatus()).isEqualTo(OrderStatus.PENDING);
+
+        String paymentSeq = paymentRepository.findByOrderId(result.orderId()).get(0).getPaymentSeq();
+        orderPaymentProcessor.requestPayment(paymentSeq, "SAMSUNG", "1234-5678-9012-3456");
+
+        // then - 결제 실패 처리 후 주문 취소
+        assertThat(paymentRepository.findByOrderId(result.orderId()).get(0).getPaymentStatus()).isEqualTo(PaymentStatus.FAILED);
+        assertThat(orderRepository.findById(result.orderId()).get().getOrderStatus()).isEqualTo(OrderStatus.CANCELED);
 
         verify(pgClient).requestPayment(any());
     }
@@ -374,4 +406,103 @@ class OrderFacadeTest {
         // 금액이 0원이므로 PG 클라이언트는 호출되지 않아야 함
         verify(pgClient, never()).requestPayment(any());
     }
+
+    @DisplayName("주문 실패 - 존재하지 않는 상품이 있으면 재고 차감 전에 없는 상품 ID를 모두 알려줌")
+    @Test
+    void placeOrder_fails_listing_all_missing_products() {
+        // given
+        User user = userService.register(User.from("userId999", "test9@naver.com", "1995-01-01", "M"));
+        Product product = productRepository.save(Product.from("티셔츠9","설명9",BigDecimal.valueOf(1000L), BigDecimal.valueOf(1500L),"ON_SALE", 20L));
+        pointRepository.save(Point.from(user.getId(),1000L));
+        stockRepository.save(Stock.from(product.getId(), 10));
+
+        Long missingId1 = product.getId() + 1000;
+        Long missingId2 = product.getId() + 2000;
+        List<OrderItemCriteria> items = List.of(
+                new OrderItemCriteria(missingId2, 1),
+                new OrderItemCriteria(product.getId(), 1),
+                new OrderItemCriteria(missingId1, 1)
+        );
+
+        // when & then
+        OrderCreateCommand command = new OrderCreateCommand(
+                user.getId(),
+                items,
+                "ORDER-999",
+                -1L,
+                1000L,
+                "POINT_ONLY",
+                "KHY_PG",
+                null,
+                null
+        );
+
+        assertThatThrownBy(() -> orderFacade.placeOrder(command))
+                .isInstanceOf(CoreException.class)
+                .hasFieldOrPropertyWithValue("errorType", ErrorType.NOT_FOUND)
+                .hasMessageContaining("[" + missingId1 + ", " + missingId2 + "]");
+
+        Integer remaining = jdbcTemplate.queryForObject(
+                "SELECT quantity FROM stock WHERE ref_product_id = ?", Integer.class, product.getId());
+        assertThat(remaining).isEqualTo(10);
+    }
+
+    @DisplayName("같은 주문 번호로 다시 요청하면 재고/포인트를 다시 차감하지 않고 처음 접수 결과를 반환한다.")
+    @Test
+    void placeOrder_returns_original_result_for_replayed_order_seq() {
+        // given
+        User user = userService.register(User.from("userId321", "test10@naver.com", "1995-01-01", "F"));
+        Product product = productRepository.save(Product.from("티셔츠10","설명10",BigDecimal.valueOf(100L), BigDecimal.valueOf(150L),"ON_SALE", 20L));
+        Point point = pointRepository.save(Point.from(user.getId(),5000L));
+        stockRepository.save(Stock.from(product.getId(), 10));
+
+        OrderCreateCommand command = new OrderCreateCommand(
+                user.getId(),
+                List.of(new OrderItemCriteria(product.getId(), 2)),
+                "ORDER-321",
+                -1L,
+                200L,
+                "POINT_ONLY",
+                "KHY_PG",
+                null,
+                null
+        );
+        OrderCreateResult first = orderFacade.placeOrder(command);
+
+        // when
+        OrderCreateResult replayed = orderFacade.placeOrder(command);
+
+        // then
+        assertThat(replayed.orderId()).isEqualTo(first.orderId());
+        assertThat(replayed.price()).isEqualTo(first.price());
+        assertThat(orderRepository.findAllByUserId(user.getId())).hasSize(1);
+
+        Integer remaining = jdbcTemplate.queryForObject(
+                "SELECT quantity FROM stock WHERE ref_product_id = ?", Integer.class, product.getId());
+        assertThat(remaining).isEqualTo(8);
+        assertThat(pointRepository.findById(point.getId()).get().getBalance().getValue()).isEqualTo(4800L);
+        verify(externalOrderSender, times(1)).sendOrder(any(Order.class));
+    }
+
+    @DisplayName("다른 유저가 이미 사용된 주문 번호로 요청하면 CONFLICT 예외가 발생한다.")
+    @Test
+    void placeOrder_fails_when_order_seq_used_by_another_user() {
+        // given
+        User owner = userService.register(User.from("userId432", "test11@naver.com", "1995-01-01", "F"));
+        User other = userService.register(User.from("userId543", "test12@naver.com", "1995-01-01", "M"));
+        Product product = productRepository.save(Product.from("티셔츠11","설명11",BigDecimal.valueOf(100L), BigDecimal.valueOf(150L),"ON_SALE", 20L));
+        pointRepository.save(Point.from(owner.getId(),5000L));
+        pointRepository.save(Point.from(other.getId(),5000L));
+        stockRepository.save(Stock.from(product.getId(), 10));
+
+        List<OrderItemCriteria> items = List.of(new OrderItemCriteria(product.getId(), 1));
+        orderFacade.placeOrder(new OrderCreateCommand(
+                owner.getId(), items, "ORDER-432", -1L, 100L, "POINT_ONLY", "KHY_PG", null, null));
+
+        // when & then
+        assertThatThrownBy(() -> orderFacade.placeOrder(new OrderCreateCommand(
+                other.getId(), items, "ORDER-432", -1L, 100L, "POINT_ONLY", "KHY_PG", null, null)))
+                .isInstanceOf(CoreException.class)
+                .hasFieldOrPropertyWithValue("errorType", ErrorType.CONFLICT);
+    }
 }
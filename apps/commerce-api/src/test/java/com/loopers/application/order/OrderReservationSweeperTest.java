@@ -0,0 +1,60 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.OrderService;
+import com.loopers.domain.stock.StockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class OrderReservationSweeperTest {
+    private StockService stockService;
+    private OrderService orderService;
+    private OrderReservationSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        stockService = mock(StockService.class);
+        orderService = mock(OrderService.class);
+        sweeper = new OrderReservationSweeper(stockService, orderService);
+    }
+
+    @DisplayName("만료된 예약 중 주문이 저장된 예약은 확정하고, 없는 예약은 해제한다.")
+    @Test
+    void sweep_confirmsPlacedAndReleasesOrphaned() {
+        // given
+        when(stockService.isReservationEnabled()).thenReturn(true);
+        when(stockService.getExpiredReservations(anyInt())).thenReturn(List.of("ORDER-PLACED", "ORDER-LOST"));
+        when(orderService.existsByOrderSeq("ORDER-PLACED")).thenReturn(true);
+        when(orderService.existsByOrderSeq("ORDER-LOST")).thenReturn(false);
+
+        // when
+        sweeper.sweep();
+
+        // then
+        verify(stockService).confirmReservation("ORDER-PLACED");
+        verify(stockService).releaseReservation("ORDER-LOST");
+        verify(stockService, never()).releaseReservation("ORDER-PLACED");
+        verify(stockService, never()).confirmReservation("ORDER-LOST");
+    }
+
+    @DisplayName("예약을 쓰지 않으면 아무것도 하지 않는다.")
+    @Test
+    void sweep_doesNothing_whenReservationDisabled() {
+        // given
+        when(stockService.isReservationEnabled()).thenReturn(false);
+
+        // when
+        sweeper.sweep();
+
+        // then
+        verify(stockService, never()).getExpiredReservations(anyInt());
+        verify(stockService, never()).confirmReservation(anyString());
+        verify(stockService, never()).releaseReservation(anyString());
+    }
+}
@@ -130,6 +130,22 @@ class ProductFacadeIntegrationTest {
         assertThat(result.brandName()).isEqualTo("테스트브랜드1");
     }
 
+    @Test
+    @DisplayName("여러 상품 상세 조회 - 요청 순서대로 반환하고 중복 id는 한 번만, 없는 상품은 제외")
+    void getDetails_keepsRequestOrder() {
+        // given
+        List<Long> productIds = List.of(testProduct3.getId(), testProduct1.getId(), 999_999L, testProduct1.getId());
+
+        // when
+        List<ProductDetailInfo> result = productFacade.getDetails(productIds);
+
+        // then
+        assertThat(result).extracting(ProductDetailInfo::id)
+                .containsExactly(testProduct3.getId(), testProduct1.getId());
+        assertThat(result).extracting(ProductDetailInfo::brandName)
+                .containsExactly("테스트브랜드2", "테스트브랜드1");
+    }
+
     @Test
     @DisplayName("상품 목록 조회 성공 - 브랜드 필터링 적용")
     void getProducts_withBrandFilter_success() {
@@ -18,10 +18,12 @@ public class LikeServiceIntegrationTest {
     private LikeService likeSpyService;
     @Autowired
     private LikeRepository likeRepository;
+    @Autowired
+    private LikeStateRepository likeStateRepository;
 
     @BeforeEach
     void setUp() {
-        LikeService realService = new LikeService(likeRepository);
+        LikeService realService = new LikeService(likeRepository, likeStateRepository);
         likeSpyService = Mockito.spy(realService);
     }
 
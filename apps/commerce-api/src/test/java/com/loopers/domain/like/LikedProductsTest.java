@@ -14,8 +14,12 @@ import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -24,6 +28,9 @@ public class LikedProductsTest {
     @Mock
     private LikeRepository likeRepository;
 
+    @Mock
+    private LikeStateRepository likeStateRepository;
+
     @InjectMocks
     private LikeService likeService;
 
@@ -56,4 +63,53 @@ public class LikedProductsTest {
 
         verify(likeRepository).findLikedProductsByRefUserId(userId, pageable);
     }
+
+    @DisplayName("Redis 좋아요 카운터가 있는 상품은 카운터 값으로 좋아요 수를 반환한다.")
+    @Test
+    void returnLikedProducts_withRedisLikeCount() {
+        Long userId = 1L;
+        Pageable pageable = PageRequest.of(0, 10);
+
+        LikedProductDto counted = new LikedProductDto(100L, 200L, "상품1", BigDecimal.valueOf(10000), BigDecimal.valueOf(9000), "ON_SALE", true, 5L);
+        LikedProductDto notCounted = new LikedProductDto(101L, 201L, "상품2", BigDecimal.valueOf(10000), BigDecimal.valueOf(9000), "ON_SALE", true, 3L);
+
+        when(likeRepository.findLikedProductsByRefUserId(userId, pageable))
+                .thenReturn(new PageImpl<>(List.of(counted, notCounted), pageable, 2));
+        when(likeStateRepository.isEnabled()).thenReturn(true);
+        when(likeStateRepository.findLikeCounts(List.of(200L, 201L))).thenReturn(Map.of(200L, 7L));
+
+        Page<LikedProductDto> result = likeService.getLikedProducts(userId, pageable);
+
+        assertThat(result.getContent()).extracting(LikedProductDto::totalLikeCount).containsExactly(7L, 3L);
+    }
+
+    @DisplayName("Redis에 사용자 좋아요 상태가 적재되어 있으면 DB 조회 없이 좋아요한 상품 id를 반환한다.")
+    @Test
+    void returnLikedProductIds_fromRedis() {
+        Long userId = 1L;
+        List<Long> productIds = List.of(10L, 11L, 12L);
+
+        when(likeStateRepository.isEnabled()).thenReturn(true);
+        when(likeStateRepository.findLikedProductIds(userId, productIds)).thenReturn(Optional.of(Set.of(11L)));
+
+        Set<Long> result = likeService.getLikedProductIds(userId, productIds);
+
+        assertThat(result).containsExactly(11L);
+        verify(likeRepository, never()).findLikedProductIds(userId, productIds);
+    }
+
+    @DisplayName("Redis에 사용자 좋아요 상태가 없으면 DB에서 한 번에 조회한다.")
+    @Test
+    void returnLikedProductIds_fallbackToDatabase() {
+        Long userId = 1L;
+        List<Long> productIds = List.of(10L, 11L, 12L);
+
+        when(likeStateRepository.isEnabled()).thenReturn(true);
+        when(likeStateRepository.findLikedProductIds(userId, productIds)).thenReturn(Optional.empty());
+        when(likeRepository.findLikedProductIds(userId, productIds)).thenReturn(List.of(10L, 12L));
+
+        Set<Long> result = likeService.getLikedProductIds(userId, productIds);
+
+        assertThat(result).containsExactlyInAnyOrder(10L, 12L);
+    }
 }
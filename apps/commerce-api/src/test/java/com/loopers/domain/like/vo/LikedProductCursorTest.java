@@ -0,0 +1,45 @@
+package com.loopers.domain.like.vo;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LikedProductCursorTest {
+
+    @Test
+    @DisplayName("커서를 인코딩 후 디코딩하면 좋아요 일시와 상품 id가 그대로 복원된다.")
+    void encodeAndDecode() {
+        // given
+        LikedProductCursor cursor = new LikedProductCursor(LocalDateTime.of(2025, 8, 1, 9, 0, 0, 123456000), 42L);
+
+        // when
+        LikedProductCursor decoded = LikedProductCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지 조회로 간주해 null을 반환한다.")
+    void decode_blank_returnsNull() {
+        // given & when & then
+        assertThat(LikedProductCursor.decode(null)).isNull();
+        assertThat(LikedProductCursor.decode("")).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서인 경우 400 BAD_REQUEST 에러를 반환한다.")
+    void decode_invalidToken_throwsException() {
+        // given & when & then
+        assertThatThrownBy(() -> LikedProductCursor.decode("invalid-cursor!!"))
+                .isInstanceOf(CoreException.class)
+                .hasFieldOrPropertyWithValue("errorType", ErrorType.BAD_REQUEST)
+                .hasMessage("유효하지 않은 커서입니다.");
+    }
+}
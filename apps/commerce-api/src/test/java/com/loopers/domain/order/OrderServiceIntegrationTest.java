@@ -21,10 +21,12 @@ class OrderServiceIntegrationTest {
     private OrderService orderSpyService;
     @Autowired
     private OrderRepository orderRepository;
+    @Autowired
+    private OrderIdempotencyRepository orderIdempotencyRepository;
 
     @BeforeEach
     void setUp() {
-        OrderService realService = new OrderService(orderRepository);
+        OrderService realService = new OrderService(orderRepository, orderIdempotencyRepository);
         orderSpyService = Mockito.spy(realService);
     }
 
@@ -60,4 +62,21 @@ class OrderServiceIntegrationTest {
         assertThat(result.getOrderStatus()).isEqualTo(order.getOrderStatus());
         assertThat(result.getOrderItems().get(0).getProductName()).isEqualTo(order.getOrderItems().get(0).getProductName());
     }
+
+    @DisplayName("접수 기록이 없는 주문 번호는 주문 테이블에서 접수 결과를 찾는다.")
+    @Test
+    void findReceipt_fallsBackToOrderTable() {
+        // given
+        List<OrderItem> items = List.of(new OrderItem(1L,1,"티셔츠", Money.from(BigDecimal.valueOf(1000)),Money.from(BigDecimal.valueOf(1200))));
+        Order order = orderRepository.save(Order.create(30L,"seq-receipt-1", items, 1000L));
+
+        // when
+        OrderReceipt receipt = orderSpyService.findReceipt("seq-receipt-1").orElseThrow();
+
+        // then
+        assertThat(receipt.orderId()).isEqualTo(order.getId());
+        assertThat(receipt.refUserId()).isEqualTo(30L);
+        assertThat(receipt.price()).isEqualTo(1000L);
+        assertThat(orderSpyService.findReceipt("seq-receipt-none")).isEmpty();
+    }
 }
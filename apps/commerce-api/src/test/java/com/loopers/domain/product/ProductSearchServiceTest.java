@@ -0,0 +1,42 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.product.vo.ProductSortType;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class ProductSearchServiceTest {
+    private ProductSearchRepository productSearchRepository;
+    private ProductRepository productRepository;
+    private ProductSearchService productSearchService;
+
+    @BeforeEach
+    void setUp() {
+        productSearchRepository = mock(ProductSearchRepository.class);
+        productRepository = mock(ProductRepository.class);
+        productSearchService = new ProductSearchService(productSearchRepository, productRepository);
+    }
+
+    @Test
+    @DisplayName("상품 검색 실패 - 검색 색인 준비 전에는 재시도 가능한 오류(503)")
+    void search_indexNotReady() {
+        // given
+        when(productSearchRepository.isReady()).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> productSearchService.search("운동화", null, ProductSortType.LATEST, PageRequest.of(0, 10)))
+                .isInstanceOf(CoreException.class)
+                .hasFieldOrPropertyWithValue("errorType", ErrorType.SERVICE_UNAVAILABLE);
+
+        verify(productSearchRepository, never()).search(any(), any(), any(), anyInt(), anyInt());
+        verifyNoInteractions(productRepository);
+    }
+}
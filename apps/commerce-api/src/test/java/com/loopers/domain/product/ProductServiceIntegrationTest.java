@@ -20,10 +20,16 @@ public class ProductServiceIntegrationTest {
     private ProductService productSpyService;
     @Autowired
     private ProductRepository productRepository;
+    @Autowired
+    private ProductRankingRepository productRankingRepository;
+    @Autowired
+    private ProductLikeCountBuffer productLikeCountBuffer;
+    @Autowired
+    private ProductTrendingRepository productTrendingRepository;
 
     @BeforeEach
     void setUp() {
-        ProductService realService = new ProductService(productRepository);
+        ProductService realService = new ProductService(productRepository, productRankingRepository, productLikeCountBuffer, productTrendingRepository);
         productSpyService = Mockito.spy(realService);
     }
 
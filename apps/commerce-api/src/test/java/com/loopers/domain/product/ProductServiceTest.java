@@ -2,6 +2,7 @@ package com.loopers.domain.product;
 
 import com.loopers.domain.product.vo.ProductSortType;
 import com.loopers.domain.product.vo.SaleStatus;
+import com.loopers.domain.product.vo.TrendingWindow;
 import com.loopers.interfaces.api.product.ProductWithLikeCountDto;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
@@ -26,12 +27,18 @@ import static org.mockito.Mockito.*;
 @ExtendWith(SpringExtension.class)
 class ProductServiceTest {
     private ProductRepository productRepository;
+    private ProductRankingRepository productRankingRepository;
+    private ProductLikeCountBuffer productLikeCountBuffer;
+    private ProductTrendingRepository productTrendingRepository;
     private ProductService productService;
 
     @BeforeEach
     void setUp() {
         productRepository = mock(ProductRepository.class);
-        productService = new ProductService(productRepository);
+        productRankingRepository = mock(ProductRankingRepository.class);
+        productLikeCountBuffer = mock(ProductLikeCountBuffer.class);
+        productTrendingRepository = mock(ProductTrendingRepository.class);
+        productService = new ProductService(productRepository, productRankingRepository, productLikeCountBuffer, productTrendingRepository);
     }
 
     @Test
@@ -207,4 +214,70 @@ class ProductServiceTest {
 
         verify(productRepository).findProductsWithLikeCount(brandId, sortType, pageable);
     }
+
+    @Test
+    @DisplayName("상품 목록 조회 성공 - 랭킹이 준비된 경우 좋아요순은 랭킹 순서대로 반환")
+    void getProducts_likeCount_fromRanking() {
+        // given
+        Long brandId = 1L;
+        ProductSortType sortType = ProductSortType.LIKE_COUNT;
+        Pageable pageable = PageRequest.of(0, 3);
+
+        when(productRankingRepository.isReady()).thenReturn(true);
+        when(productRankingRepository.findRankedProductIds(brandId, 0L, 3)).thenReturn(List.of(3L, 1L, 2L));
+        when(productRankingRepository.count(brandId)).thenReturn(5L);
+        when(productRepository.findProductsWithLikeCountByIds(List.of(3L, 1L, 2L))).thenReturn(List.of(
+                new ProductWithLikeCountDto(3L, "인기상품", BigDecimal.valueOf(30000), BigDecimal.valueOf(25000), SaleStatus.ON_SALE, 1L, "브랜드1", 10L),
+                new ProductWithLikeCountDto(1L, "상품1", BigDecimal.valueOf(10000), BigDecimal.valueOf(8000), SaleStatus.ON_SALE, 1L, "브랜드1", 7L),
+                new ProductWithLikeCountDto(2L, "상품2", BigDecimal.valueOf(20000), BigDecimal.valueOf(18000), SaleStatus.ON_SALE, 1L, "브랜드1", 3L)
+        ));
+
+        // when
+        Page<ProductWithLikeCountDto> result = productService.getProducts(brandId, sortType, pageable);
+
+        // then
+        assertThat(result.getContent()).extracting(ProductWithLikeCountDto::productId).containsExactly(3L, 1L, 2L);
+        assertThat(result.getTotalElements()).isEqualTo(5L);
+        verify(productRepository, never()).findProductsWithLikeCount(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("좋아요 수 증감은 상품을 수정하지 않고 버퍼에 누적되며, 조회 시 반영 전 증감분이 합산된다.")
+    void increaseLikeCount_buffersDelta() {
+        // given
+        Product product = Product.from("상품", "설명", BigDecimal.valueOf(1000L), BigDecimal.valueOf(1200L), "ON_SALE", 1L);
+        when(productLikeCountBuffer.pending(product.getId())).thenReturn(2L);
+
+        // when
+        productService.increaseLikeCount(product);
+        productService.decreaseLikeCount(product);
+
+        // then
+        assertThat(product.getLikeCount()).isEqualTo(0L);
+        assertThat(productService.getLikeCount(product)).isEqualTo(2L);
+        verify(productLikeCountBuffer).add(product.getId(), 1L);
+        verify(productLikeCountBuffer).add(product.getId(), -1L);
+    }
+
+    @Test
+    @DisplayName("인기순 정렬은 메모리 집계의 순서대로 상품을 반환하고 DB 정렬을 사용하지 않는다.")
+    void getProducts_trending_usesAggregator() {
+        // given
+        Pageable pageable = PageRequest.of(0, 2);
+        when(productTrendingRepository.isReady()).thenReturn(true);
+        when(productTrendingRepository.findTrendingProductIds(null, TrendingWindow.DAY, 0L, 2)).thenReturn(List.of(5L, 2L));
+        when(productTrendingRepository.count(null, TrendingWindow.DAY)).thenReturn(4L);
+        when(productRepository.findProductsWithLikeCountByIds(List.of(5L, 2L))).thenReturn(List.of(
+                new ProductWithLikeCountDto(5L, "상품5", BigDecimal.valueOf(10000), BigDecimal.valueOf(9000), SaleStatus.ON_SALE, 1L, "브랜드1", 1L),
+                new ProductWithLikeCountDto(2L, "상품2", BigDecimal.valueOf(20000), BigDecimal.valueOf(18000), SaleStatus.ON_SALE, 1L, "브랜드1", 9L)
+        ));
+
+        // when
+        Page<ProductWithLikeCountDto> result = productService.getProducts(null, ProductSortType.TRENDING, pageable);
+
+        // then
+        assertThat(result.getContent()).extracting(ProductWithLikeCountDto::productId).containsExactly(5L, 2L);
+        assertThat(result.getTotalElements()).isEqualTo(4L);
+        verify(productRepository, never()).findProductsWithLikeCount(any(), any(), any());
+    }
 }
@@ -139,4 +139,16 @@ class ProductTest {
         assertThat(product.getLikeCount()).isEqualTo(0);
     }
 
+    @DisplayName("상품 생성 시 원가와 판매가로 할인율(%)이 계산되고 소수점 둘째 자리 아래는 버린다.")
+    @Test
+    void createProduct_calculatesDiscountRate() {
+        // given & when
+        Product product = Product.from("상품", "설명", BigDecimal.valueOf(2000L), BigDecimal.valueOf(3000L), "ON_SALE", 1L);
+        Product freeProduct = Product.from("상품", "설명", BigDecimal.ZERO, BigDecimal.ZERO, "ON_SALE", 1L);
+
+        // then
+        assertThat(product.getDiscountRate()).isEqualByComparingTo("33.33");
+        assertThat(freeProduct.getDiscountRate()).isEqualByComparingTo("0");
+    }
+
 }
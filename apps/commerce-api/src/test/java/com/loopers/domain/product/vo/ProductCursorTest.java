@@ -0,0 +1,89 @@
+package com.loopers.domain.product.vo;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductCursorTest {
+
+    @Test
+    @DisplayName("최신순 커서를 인코딩 후 디코딩하면 정렬 키와 id가 그대로 복원된다.")
+    void encodeAndDecode_latest() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 8, 1, 12, 30, 15, 123000000);
+        ProductCursor cursor = ProductCursor.of(ProductSortType.LATEST, createdAt, 42L);
+
+        // when
+        ProductCursor decoded = ProductCursor.decode(cursor.encode(), ProductSortType.LATEST);
+
+        // then
+        assertThat(decoded.createdAtKey()).isEqualTo(createdAt);
+        assertThat(decoded.id()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("좋아요순 커서를 인코딩 후 디코딩하면 좋아요 수와 id가 그대로 복원된다.")
+    void encodeAndDecode_likeCount() {
+        // given
+        ProductCursor cursor = ProductCursor.of(ProductSortType.LIKE_COUNT, 150L, 7L);
+
+        // when
+        ProductCursor decoded = ProductCursor.decode(cursor.encode(), ProductSortType.LIKE_COUNT);
+
+        // then
+        assertThat(decoded.longKey()).isEqualTo(150L);
+        assertThat(decoded.id()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("가격순/할인율순 커서는 소수 정렬 키를 그대로 복원한다.")
+    void encodeAndDecode_decimalKey() {
+        // given
+        ProductCursor cursor = ProductCursor.of(ProductSortType.DISCOUNT_RATE, new BigDecimal("33.33").toPlainString(), 9L);
+
+        // when
+        ProductCursor decoded = ProductCursor.decode(cursor.encode(), ProductSortType.DISCOUNT_RATE);
+
+        // then
+        assertThat(decoded.decimalKey()).isEqualByComparingTo("33.33");
+        assertThat(decoded.id()).isEqualTo(9L);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지 조회로 간주해 null을 반환한다.")
+    void decode_blank_returnsNull() {
+        // given & when & then
+        assertThat(ProductCursor.decode(null, ProductSortType.LATEST)).isNull();
+        assertThat(ProductCursor.decode(" ", ProductSortType.LATEST)).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서인 경우 400 BAD_REQUEST 에러를 반환한다.")
+    void decode_invalidToken_throwsException() {
+        // given & when & then
+        assertThatThrownBy(() -> ProductCursor.decode("invalid-cursor!!", ProductSortType.LATEST))
+                .isInstanceOf(CoreException.class)
+                .hasFieldOrPropertyWithValue("errorType", ErrorType.BAD_REQUEST)
+                .hasMessage("유효하지 않은 커서입니다.");
+    }
+
+    @Test
+    @DisplayName("요청한 정렬 타입과 커서의 정렬 타입이 다르면 400 BAD_REQUEST 에러를 반환한다.")
+    void decode_sortTypeMismatch_throwsException() {
+        // given
+        String token = ProductCursor.of(ProductSortType.LIKE_COUNT, 10L, 1L).encode();
+
+        // when & then
+        assertThatThrownBy(() -> ProductCursor.decode(token, ProductSortType.LATEST))
+                .isInstanceOf(CoreException.class)
+                .hasFieldOrPropertyWithValue("errorType", ErrorType.BAD_REQUEST)
+                .hasMessage("커서의 정렬 타입이 요청한 정렬 타입과 다릅니다.");
+    }
+}
@@ -30,6 +30,15 @@ class ProductSortTypeTest {
         assertThat(ProductSortType.fromString("Like_Count")).isEqualTo(ProductSortType.LIKE_COUNT);
     }
 
+    @Test
+    @DisplayName("유효한 문자열로 ProductSortType 변환 성공 - PRICE_ASC, PRICE_DESC, DISCOUNT_RATE")
+    void fromString_validPriceAndDiscountRate() {
+        // given & when & then
+        assertThat(ProductSortType.fromString("price_asc")).isEqualTo(ProductSortType.PRICE_ASC);
+        assertThat(ProductSortType.fromString("PRICE_DESC")).isEqualTo(ProductSortType.PRICE_DESC);
+        assertThat(ProductSortType.fromString("Discount_Rate")).isEqualTo(ProductSortType.DISCOUNT_RATE);
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"", " ", "   "})
     @DisplayName("null이나 빈 문자열인 경우 기본값 LATEST 반환")
@@ -65,6 +74,6 @@ class ProductSortTypeTest {
         // when & then
         assertThatThrownBy(() -> ProductSortType.fromString(invalidInput))
                 .isInstanceOf(CoreException.class)
-                .hasMessage("유효하지 않은 정렬 타입입니다. (LATEST, LIKE_COUNT 중 하나를 입력해주세요)");
+                .hasMessage("유효하지 않은 정렬 타입입니다. (LATEST, LIKE_COUNT, PRICE_ASC, PRICE_DESC, DISCOUNT_RATE, TRENDING 중 하나를 입력해주세요)");
     }
 }
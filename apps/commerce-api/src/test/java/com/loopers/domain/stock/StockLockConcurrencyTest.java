@@ -0,0 +1,182 @@
+package com.loopers.domain.stock;
+
+import com.loopers.application.order.OrderFacade;
+import com.loopers.application.order.in.OrderCreateCommand;
+import com.loopers.application.order.in.OrderItemCriteria;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.point.Point;
+import com.loopers.domain.point.PointRepository;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class StockLockConcurrencyTest {
+    @Autowired
+    private StockLockCoordinator stockLockCoordinator;
+    @Autowired
+    private StockRepository stockRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private OrderFacade orderFacade;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PointRepository pointRepository;
+    @Autowired
+    private ProductRepository productRepository;
+
+    private final int threadCount = 20;
+
+    @DisplayName("같은 상품들을 서로 반대 순서로 잠가도 교착 없이 모든 요청이 성공한다.")
+    @Test
+    void should_lock_without_deadlock_when_products_are_requested_in_opposite_order() throws InterruptedException {
+        // given
+        Long productA = saveProduct("상품A").getId();
+        Long productB = saveProduct("상품B").getId();
+        stockRepository.save(Stock.from(productA, 0));
+        stockRepository.save(Stock.from(productB, 0));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        AtomicInteger failures = new AtomicInteger();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            List<Long> requested = i % 2 == 0 ? List.of(productA, productB) : List.of(productB, productA);
+            executorService.submit(() -> {
+                try {
+                    ready.countDown();
+                    ready.await();
+                    transactionTemplate.executeWithoutResult(status -> {
+                        Map<Long, Stock> stocks = stockLockCoordinator.lockAll(requested);
+                        stocks.values().forEach(stock -> stock.increaseQuantity(1));
+                        // 잠금을 잡은 채로 잠시 머물러 경합 구간을 넓힘
+                        sleep(10);
+                    });
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                    e.printStackTrace();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(failures.get()).isZero();
+        assertThat(stockRepository.findByRefProductId(productA).orElseThrow().getQuantity()).isEqualTo(threadCount);
+        assertThat(stockRepository.findByRefProductId(productB).orElseThrow().getQuantity()).isEqualTo(threadCount);
+    }
+
+    @DisplayName("같은 상품들을 서로 반대 순서로 담은 주문이 동시에 들어와도 모든 주문이 완료되고 재고가 정확히 차감된다.")
+    @Test
+    void should_place_all_orders_when_items_are_listed_in_opposite_order_concurrently() throws InterruptedException {
+        // given
+        Long productA = saveProduct("청바지").getId();
+        Long productB = saveProduct("티셔츠").getId();
+        stockRepository.save(Stock.from(productA, 100));
+        stockRepository.save(Stock.from(productB, 100));
+
+        Long userId1 = userRepository.save(User.from("lockUser01", "lock1@example.com", "1990-01-01", "M")).orElseThrow().getId();
+        Long userId2 = userRepository.save(User.from("lockUser02", "lock2@example.com", "1990-01-01", "F")).orElseThrow().getId();
+        Long pointId1 = pointRepository.save(Point.from(userId1, 100000L)).getId();
+        Long pointId2 = pointRepository.save(Point.from(userId2, 100000L)).getId();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger failures = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            Long userId = i % 2 == 0 ? userId1 : userId2;
+            List<OrderItemCriteria> items = i % 2 == 0
+                    ? List.of(new OrderItemCriteria(productA, 1), new OrderItemCriteria(productB, 2))
+                    : List.of(new OrderItemCriteria(productB, 2), new OrderItemCriteria(productA, 1));
+            executorService.submit(() -> {
+                try {
+                    ready.countDown();
+                    ready.await();
+                    OrderCreateCommand command = new OrderCreateCommand(
+                            userId,
+                            items,
+                            "LOCK-ORDER-" + UUID.randomUUID(),
+                            -1L,
+                            3000L,
+                            "POINT_ONLY",
+                            "KHY_PG",
+                            null,
+                            null
+                    );
+                    orderFacade.placeOrder(command);
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                    e.printStackTrace();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        List<Order> orders1 = orderRepository.findAllByUserId(userId1);
+        List<Order> orders2 = orderRepository.findAllByUserId(userId2);
+
+        assertThat(failures.get()).isZero();
+        assertThat(orders1.size() + orders2.size()).isEqualTo(threadCount);
+        assertThat(stockRepository.findByRefProductId(productA).orElseThrow().getQuantity()).isEqualTo(100 - threadCount);
+        assertThat(stockRepository.findByRefProductId(productB).orElseThrow().getQuantity()).isEqualTo(100 - threadCount * 2);
+        assertThat(pointRepository.findById(pointId1).orElseThrow().getBalance().getValue()).isEqualTo(100000L - 3000L * (threadCount / 2));
+        assertThat(pointRepository.findById(pointId2).orElseThrow().getBalance().getValue()).isEqualTo(100000L - 3000L * (threadCount / 2));
+    }
+
+    private Product saveProduct(String name) {
+        return productRepository.save(Product.from(
+                name,
+                name + " 상품 설명",
+                BigDecimal.valueOf(1000),    // 할인가
+                BigDecimal.valueOf(1500),    // 원가
+                "ON_SALE",
+                1L                            // 브랜드 아이디
+        ));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -12,6 +12,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -22,10 +27,18 @@ public class StockServiceIntegrationTest {
     private StockService stockSpyService;
     @Autowired
     private StockRepository stockRepository;
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+    @Autowired
+    private StockBucketRepository stockBucketRepository;
+    @Autowired
+    private StockAvailabilityCache stockAvailabilityCache;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
 
     @BeforeEach
     void setUp() {
-        StockService realService = new StockService(stockRepository);
+        StockService realService = new StockService(stockRepository, stockReservationRepository, stockBucketRepository, stockAvailabilityCache);
         stockSpyService = Mockito.spy(realService);
     }
 
@@ -83,4 +96,193 @@ public class StockServiceIntegrationTest {
         // then
         assertThat(exception.getMessage()).isEqualTo("재고가 부족합니다.");
     }
+
+    @DisplayName("여러 상품 재고를 한 번에 차감하면 각 상품 재고가 주문 수량만큼 줄어든다.")
+    @Test
+    void decreaseAll(){
+        // given
+        stockSpyService.save(Stock.from(114L,10));
+        stockSpyService.save(Stock.from(115L,5));
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        quantities.put(114L, 3);
+        quantities.put(115L, 5);
+
+        // when
+        stockSpyService.decreaseAll(quantities);
+
+        // then
+        assertThat(quantityOf(114L)).isEqualTo(7);
+        assertThat(quantityOf(115L)).isEqualTo(0);
+    }
+
+    @DisplayName("재고가 부족한 상품이 있으면 400 BAD_REQUEST 에러가 발생하고 해당 상품 재고는 차감되지 않는다.")
+    @Test
+    void should_throw_bad_request_when_decrease_all_is_insufficient(){
+        // given
+        stockSpyService.save(Stock.from(116L,10));
+        stockSpyService.save(Stock.from(117L,2));
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        quantities.put(116L, 3);
+        quantities.put(117L, 5);
+
+        // when
+        CoreException exception = assertThrows(CoreException.class, () -> {
+            stockSpyService.decreaseAll(quantities);
+        });
+
+        // then
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        assertThat(exception.getMessage()).isEqualTo("재고가 부족합니다. (상품 ID: 117)");
+        assertThat(quantityOf(117L)).isEqualTo(2);
+    }
+
+    @DisplayName("재고가 없는 상품을 차감하면 404 Not Found 에러가 발생한다.")
+    @Test
+    void should_throw_not_found_when_decrease_all_stock_does_not_exist(){
+        // given
+        Map<Long, Integer> quantities = Map.of(131L, 1);
+
+        // when
+        CoreException exception = assertThrows(CoreException.class, () -> {
+            stockSpyService.decreaseAll(quantities);
+        });
+
+        // then
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+    }
+
+    @DisplayName("재고를 bucket으로 나누면 수량이 고르게 나뉘고 전체 재고는 그대로다.")
+    @Test
+    void splitIntoBuckets(){
+        // given
+        stockSpyService.save(Stock.from(118L,10));
+
+        // when
+        List<StockBucket> buckets = stockSpyService.splitIntoBuckets(118L, 3);
+
+        // then
+        assertThat(buckets).extracting(StockBucket::getQuantity).containsExactly(4, 3, 3);
+        assertThat(stockSpyService.getTotalQuantity(118L)).isEqualTo(10);
+    }
+
+    @DisplayName("재고 예약을 사용하는 중에는 bucket으로 나누지 않고 409 CONFLICT 에러가 발생한다.")
+    @Test
+    void should_throw_conflict_when_splitting_with_reservation_enabled(){
+        // given
+        stockSpyService.save(Stock.from(125L,10));
+        StockReservationRepository enabledReservation = Mockito.mock(StockReservationRepository.class);
+        Mockito.when(enabledReservation.isEnabled()).thenReturn(true);
+        StockService reservationService = new StockService(stockRepository, enabledReservation, stockBucketRepository, stockAvailabilityCache);
+
+        // when
+        CoreException exception = assertThrows(CoreException.class, () -> {
+            reservationService.splitIntoBuckets(125L, 2);
+        });
+
+        // then
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.CONFLICT);
+        assertThat(stockBucketRepository.isBucketed(125L)).isFalse();
+        assertThat(stockSpyService.getTotalQuantity(125L)).isEqualTo(10);
+    }
+
+    @DisplayName("bucket으로 나눈 상품을 주문하면 전체 재고가 주문 수량만큼 줄어든다.")
+    @Test
+    void decreaseAll_fromBuckets(){
+        // given
+        stockSpyService.save(Stock.from(119L,10));
+        stockSpyService.splitIntoBuckets(119L, 2);
+
+        // when
+        stockSpyService.decreaseAll(Map.of(119L, 3));
+
+        // then
+        assertThat(stockSpyService.getTotalQuantity(119L)).isEqualTo(7);
+    }
+
+    @DisplayName("bucket 하나로는 부족해도 전체 재고가 충분하면 여러 bucket에서 나눠 차감한다.")
+    @Test
+    void decreaseAll_acrossBuckets_whenSingleBucketIsInsufficient(){
+        // given
+        stockSpyService.save(Stock.from(120L,6));
+        stockSpyService.splitIntoBuckets(120L, 3);
+
+        // when
+        stockSpyService.decreaseAll(Map.of(120L, 5));
+
+        // then
+        assertThat(stockSpyService.getTotalQuantity(120L)).isEqualTo(1);
+    }
+
+    @DisplayName("bucket으로 나눈 상품의 전체 재고가 부족하면 400 BAD_REQUEST 에러가 발생한다.")
+    @Test
+    void should_throw_bad_request_when_bucketed_stock_is_insufficient(){
+        // given
+        stockSpyService.save(Stock.from(121L,4));
+        stockSpyService.splitIntoBuckets(121L, 2);
+
+        // when
+        CoreException exception = assertThrows(CoreException.class, () -> {
+            stockSpyService.decreaseAll(Map.of(121L, 5));
+        });
+
+        // then
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        assertThat(stockSpyService.getTotalQuantity(121L)).isEqualTo(4);
+    }
+
+    @DisplayName("bucket을 합치면 남은 재고가 stock 행으로 모인다.")
+    @Test
+    void mergeBuckets(){
+        // given
+        stockSpyService.save(Stock.from(122L,9));
+        stockSpyService.splitIntoBuckets(122L, 3);
+        stockSpyService.decreaseAll(Map.of(122L, 2));
+
+        // when
+        Stock stock = stockSpyService.mergeBuckets(122L);
+
+        // then
+        assertThat(stock.getQuantity()).isEqualTo(7);
+        assertThat(stockSpyService.getTotalQuantity(122L)).isEqualTo(7);
+    }
+
+    @DisplayName("남은 재고가 없는 상품을 주문하면 품절로 표시되어 다음 주문은 재고 조회 없이 거절된다.")
+    @Test
+    void should_mark_sold_out_when_stock_is_empty(){
+        // given
+        stockSpyService.save(Stock.from(123L,0));
+        assertThrows(CoreException.class, () -> stockSpyService.decreaseAll(Map.of(123L, 1)));
+        Mockito.clearInvocations(stockSpyService);
+
+        // when
+        CoreException exception = assertThrows(CoreException.class, () -> {
+            stockSpyService.checkNotSoldOut(List.of(123L));
+        });
+
+        // then
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        assertThat(exception.getMessage()).isEqualTo("재고가 부족합니다. (상품 ID: 123)");
+        Mockito.verify(stockSpyService, Mockito.never()).getByRefProductIdWithLock(123L);
+    }
+
+    @DisplayName("품절 상품을 재입고하면 품절 표시가 해제된다.")
+    @Test
+    void should_clear_sold_out_when_restocked(){
+        // given
+        stockSpyService.save(Stock.from(124L,0));
+        assertThrows(CoreException.class, () -> stockSpyService.decreaseAll(Map.of(124L, 1)));
+
+        // when
+        Stock stock = stockSpyService.restock(124L, 5);
+
+        // then
+        assertThat(stock.getQuantity()).isEqualTo(5);
+        stockSpyService.checkNotSoldOut(List.of(124L));
+    }
+
+    // JDBC로 직접 차감하므로 영속성 컨텍스트가 아닌 테이블 값을 확인
+    private int quantityOf(Long refProductId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT quantity FROM stock WHERE ref_product_id = ?", Integer.class, refProductId);
+    }
 }
@@ -57,4 +57,17 @@ class StockTest {
         assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
         assertThat(exception.getMessage()).isEqualTo("재고 수량은 음수일 수 없습니다.");
     }
+
+    @DisplayName("재고를 원복하면 수량만큼 재고가 증가한다.")
+    @Test
+    void increaseQuantity() {
+        // given
+        Stock stock = Stock.from(1L, 3);
+
+        // when
+        stock.increaseQuantity(2);
+
+        // then
+        assertThat(stock.getQuantity()).isEqualTo(5);
+    }
 }
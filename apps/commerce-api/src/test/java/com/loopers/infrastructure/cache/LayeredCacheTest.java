@@ -0,0 +1,218 @@
+package com.loopers.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LayeredCacheTest {
+
+    private Cache cache;
+    private LayeredCache layeredCache;
+
+    @BeforeEach
+    void setUp() {
+        // L2(Redis) 없이 L1만 사용
+        LayeredCacheManager cacheManager = new LayeredCacheManager(
+                List.of("productDetail"),
+                null,
+                null,
+                new ObjectMapper(),
+                new SimpleMeterRegistry(),
+                100,
+                (cacheName, value) -> Duration.ofMinutes(10),
+                false,
+                null,
+                1.0
+        );
+        cache = cacheManager.getCache("productDetail");
+        layeredCache = (LayeredCache) cache;
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 미스가 나면 적재는 한 번만 수행되고 모두 같은 값을 받는다.")
+    void concurrentMiss_loadsOnce() throws InterruptedException {
+        // given
+        int threadCount = 20;
+        AtomicInteger loadCount = new AtomicInteger();
+        List<String> results = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    results.add(cache.get("detail:1", () -> {
+                        loadCount.incrementAndGet();
+                        Thread.sleep(200);
+                        return "상품1";
+                    }));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        done.await(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(results).hasSize(threadCount).containsOnly("상품1");
+        assertThat(cache.get("detail:1").get()).isEqualTo("상품1");
+    }
+
+    @Test
+    @DisplayName("적재 중 예외가 발생하면 캐시에 저장되지 않고 다음 요청에서 다시 적재한다.")
+    void loadFailure_notCached() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        assertThatThrownBy(() -> cache.get("detail:2", () -> {
+            loadCount.incrementAndGet();
+            throw new IllegalStateException("조회 실패");
+        })).isInstanceOf(Cache.ValueRetrievalException.class);
+
+        String value = cache.get("detail:2", () -> {
+            loadCount.incrementAndGet();
+            return "상품2";
+        });
+
+        // then
+        assertThat(value).isEqualTo("상품2");
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("적재하는 동안 같은 키가 무효화되면 적재한 값은 반환하되 캐시에 저장하지 않는다.")
+    void evictDuringLoad_notCached() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        String stale = cache.get("detail:3", () -> {
+            loadCount.incrementAndGet();
+            cache.evict("detail:3");
+            return "변경 전 상품3";
+        });
+        String reloaded = cache.get("detail:3", () -> {
+            loadCount.incrementAndGet();
+            return "변경 후 상품3";
+        });
+
+        // then
+        assertThat(stale).isEqualTo("변경 전 상품3");
+        assertThat(reloaded).isEqualTo("변경 후 상품3");
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여러 키를 한 번에 조회하면 캐시에 있는 키만 결과에 담긴다.")
+    void getAll_returnsCachedKeysOnly() {
+        // given
+        cache.put("detail:4", "상품4");
+        cache.put("detail:5", "상품5");
+
+        // when
+        Map<String, Object> result = layeredCache.getAll(List.of("detail:4", "detail:5", "detail:6"));
+
+        // then
+        assertThat(result).containsOnly(
+                Map.entry("detail:4", "상품4"),
+                Map.entry("detail:5", "상품5")
+        );
+    }
+
+    @Test
+    @DisplayName("적재 함수가 Error를 던져도 같은 키를 기다리던 요청은 대기하지 않고 실패한다.")
+    void loadError_failsWaiters() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<?> loader = executor.submit(() -> cache.get("detail:8", () -> {
+            loading.countDown();
+            release.await();
+            throw new AssertionError("적재 실패");
+        }));
+        loading.await(1, TimeUnit.SECONDS);
+        Future<?> waiter = executor.submit(() -> cache.get("detail:8", () -> "상품8"));
+
+        // when
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> loader.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+        // 적재가 끝난 뒤 도착했다면 새로 적재한 값을 받음
+        try {
+            assertThat(waiter.get(1, TimeUnit.SECONDS)).isEqualTo("상품8");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(Cache.ValueRetrievalException.class);
+        }
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("만료가 가까운 값은 조회 시 기존 값을 먼저 반환하고 백그라운드에서 다시 적재한다. (XFetch)")
+    void earlyRefresh_servesStaleAndReloadsInBackground() throws InterruptedException {
+        // given - TTL이 짧고 beta가 커서 히트마다 조기 갱신 대상이 됨
+        LayeredCacheManager cacheManager = new LayeredCacheManager(
+                List.of("productDetail"),
+                null,
+                null,
+                new ObjectMapper(),
+                new SimpleMeterRegistry(),
+                100,
+                (cacheName, value) -> Duration.ofSeconds(2),
+                false,
+                null,
+                1_000_000.0
+        );
+        Cache shortLived = cacheManager.getCache("productDetail");
+        shortLived.get("detail:9", () -> {
+            Thread.sleep(1);
+            return "변경 전 상품9";
+        });
+        CountDownLatch reloaded = new CountDownLatch(1);
+
+        // when
+        String served = shortLived.get("detail:9", () -> {
+            reloaded.countDown();
+            return "변경 후 상품9";
+        });
+
+        // then
+        assertThat(served).isEqualTo("변경 전 상품9");
+        assertThat(reloaded.await(1, TimeUnit.SECONDS)).isTrue();
+        long deadline = System.currentTimeMillis() + 1000;
+        while (!"변경 후 상품9".equals(shortLived.get("detail:9").get()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(shortLived.get("detail:9").get()).isEqualTo("변경 후 상품9");
+        cacheManager.shutdown();
+    }
+}
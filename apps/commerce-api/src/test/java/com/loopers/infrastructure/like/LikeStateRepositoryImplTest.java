@@ -0,0 +1,175 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.Like;
+import com.loopers.domain.like.LikeRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class LikeStateRepositoryImplTest {
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> masterRedisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private LikeStateRepositoryImpl likeStateRepository;
+    private LikeOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 프로필은 Redis 좋아요 경로가 꺼져 있으므로 켜진 저장소와 relay를 직접 생성
+        likeStateRepository = new LikeStateRepositoryImpl(masterRedisTemplate, masterRedisTemplate, jdbcTemplate, true);
+        relay = new LikeOutboxRelay(masterRedisTemplate, jdbcTemplate, true);
+        relay.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("좋아요 후 취소하면 좋아요 여부와 좋아요 수가 함께 바뀌고, 변경마다 outbox에 기록된다.")
+    @Test
+    void likeAndUnlike_togglesMembershipAndCount() {
+        // given
+        Long userId = 1L;
+        Long productId = 401L;
+
+        // when
+        boolean liked = likeStateRepository.like(userId, productId, 5L);
+        Set<Long> likedAfterLike = likeStateRepository.findLikedProductIds(userId, List.of(productId)).orElseThrow();
+        Long countAfterLike = likeStateRepository.findLikeCounts(List.of(productId)).get(productId);
+
+        boolean unliked = likeStateRepository.unlike(userId, productId, 5L);
+        Set<Long> likedAfterUnlike = likeStateRepository.findLikedProductIds(userId, List.of(productId)).orElseThrow();
+        Long countAfterUnlike = likeStateRepository.findLikeCounts(List.of(productId)).get(productId);
+
+        // then
+        assertThat(liked).isTrue();
+        assertThat(likedAfterLike).containsExactly(productId);
+        assertThat(countAfterLike).isEqualTo(6L);
+        assertThat(unliked).isTrue();
+        assertThat(likedAfterUnlike).isEmpty();
+        assertThat(countAfterUnlike).isEqualTo(5L);
+        assertThat(outboxSize()).isEqualTo(2L);
+    }
+
+    @DisplayName("이미 좋아요한 상품에 다시 좋아요하면 좋아요 수가 늘지 않고 outbox에도 기록되지 않는다.")
+    @Test
+    void like_isIgnored_whenAlreadyLiked() {
+        // given
+        Long userId = 1L;
+        Long productId = 402L;
+        likeStateRepository.like(userId, productId, 0L);
+
+        // when
+        boolean result = likeStateRepository.like(userId, productId, 0L);
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(likeStateRepository.findLikeCounts(List.of(productId)).get(productId)).isEqualTo(1L);
+        assertThat(outboxSize()).isEqualTo(1L);
+    }
+
+    @DisplayName("DB에 있던 좋아요를 불러온 뒤 변경하면, relay가 like 테이블을 Redis의 좋아요 목록과 같게 맞춘다.")
+    @Test
+    void relay_convergesLikeTableToRedisMembership() {
+        // given
+        Long userId = 1L;
+        likeRepository.save(Like.from(userId, 403L));
+        likeStateRepository.like(userId, 404L, 0L);
+        likeStateRepository.like(userId, 405L, 0L);
+        likeStateRepository.unlike(userId, 405L, 1L);
+        likeStateRepository.unlike(userId, 403L, 1L);
+        likeStateRepository.like(userId, 405L, 0L);
+
+        // when
+        relay.relay();
+
+        // then
+        List<Long> likedInTable = jdbcTemplate.queryForList(
+                "SELECT ref_product_id FROM `like` WHERE ref_user_id = ? ORDER BY ref_product_id", Long.class, userId);
+        assertThat(likedInTable).containsExactly(404L, 405L);
+        assertThat(likeStateRepository.findLikedProductIds(userId, List.of(403L, 404L, 405L)).orElseThrow())
+                .containsExactlyInAnyOrder(404L, 405L);
+        assertThat(outboxSize()).isZero();
+    }
+
+    @DisplayName("like 테이블을 직접 적재한 뒤 비우면, 다음 요청은 DB의 좋아요 목록으로 다시 채워 중복으로 세지 않는다.")
+    @Test
+    void evictAll_reloadsFromLikeTable() {
+        // given
+        Long userId = 1L;
+        likeStateRepository.like(userId, 406L, 0L);
+        jdbcTemplate.update("""
+                INSERT INTO `like` (ref_user_id, ref_product_id, version, created_at, updated_at)
+                VALUES (?, ?, 0, NOW(6), NOW(6))
+                """, userId, 407L);
+
+        // when
+        likeStateRepository.evictAll();
+        boolean result = likeStateRepository.like(userId, 407L, 1L);
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(likeStateRepository.findLikeCounts(List.of(406L, 407L))).isEmpty();
+        assertThat(likeStateRepository.findLikedProductIds(userId, List.of(406L, 407L)).orElseThrow())
+                .containsExactly(407L);
+    }
+
+    @DisplayName("사용자 set이 지워진 뒤에도 outbox의 좋아요는 like 테이블에 반영되고, 좋아요를 누른 시각이 유지된다.")
+    @Test
+    void relay_appliesOutboxEntry_whenUserSetEvicted() {
+        // given
+        Long userId = 1L;
+        LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        likeStateRepository.like(userId, 408L, 0L);
+        LocalDateTime after = LocalDateTime.now();
+        likeStateRepository.evictAll();
+
+        // when
+        relay.relay();
+
+        // then
+        List<LocalDateTime> createdAts = jdbcTemplate.queryForList(
+                "SELECT created_at FROM `like` WHERE ref_user_id = ? AND ref_product_id = ?", LocalDateTime.class, userId, 408L);
+        assertThat(createdAts).hasSize(1);
+        assertThat(createdAts.get(0)).isBetween(before, after);
+        assertThat(outboxSize()).isZero();
+    }
+
+    private long outboxSize() {
+        Long size = masterRedisTemplate.opsForStream().size(LikeStateRepositoryImpl.KEY_OUTBOX);
+        return size == null ? 0L : size;
+    }
+}
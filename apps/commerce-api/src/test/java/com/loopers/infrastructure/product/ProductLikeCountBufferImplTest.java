@@ -0,0 +1,100 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.application.product.ProductFacade;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductLikeCountBuffer;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ProductLikeCountBufferImplTest {
+
+    @Autowired
+    private ProductLikeCountBuffer productLikeCountBuffer;
+
+    @Autowired
+    private ProductFacade productFacade;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = brandRepository.save(Brand.from("테스트브랜드", "테스트 브랜드 설명"));
+        product = productRepository.save(
+                Product.from("상품1", "설명1", BigDecimal.valueOf(10000), BigDecimal.valueOf(18000), "ON_SALE", brand.getId()));
+        cacheManager.getCache("productDetail").clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        cacheManager.getCache("productDetail").clear();
+    }
+
+    @Test
+    @DisplayName("증감분을 반영하면 상품 변경과 같은 경로로 목록 테이블이 갱신되고 상세 캐시가 무효화된다.")
+    void flush_syncsListViewAndEvictsDetailCache() {
+        // given
+        productFacade.getDetail(product.getId());
+        productLikeCountBuffer.add(product.getId(), 3L);
+
+        // when
+        productLikeCountBuffer.flush();
+
+        // then
+        assertThat(likeCount("product", "id")).isEqualTo(3L);
+        assertThat(likeCount("product_list_view", "product_id")).isEqualTo(3L);
+        assertThat(productLikeCountBuffer.pending(product.getId())).isZero();
+        assertThat(cacheManager.getCache("productDetail").get("detail:" + product.getId())).isNull();
+        assertThat(productFacade.getDetail(product.getId()).likeCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("좋아요 수가 0 미만이 되는 감소분은 0으로 보정하지 않고 반영하지 않는다.")
+    void flush_rejectsDeltaBelowZero() {
+        // given
+        jdbcTemplate.update("UPDATE product SET like_count = 1 WHERE id = ?", product.getId());
+        productLikeCountBuffer.add(product.getId(), -2L);
+
+        // when
+        productLikeCountBuffer.flush();
+
+        // then
+        assertThat(likeCount("product", "id")).isEqualTo(1L);
+        assertThat(productLikeCountBuffer.pending(product.getId())).isZero();
+    }
+
+    private Long likeCount(String table, String idColumn) {
+        return jdbcTemplate.queryForObject(
+                "SELECT like_count FROM " + table + " WHERE " + idColumn + " = ?", Long.class, product.getId());
+    }
+}
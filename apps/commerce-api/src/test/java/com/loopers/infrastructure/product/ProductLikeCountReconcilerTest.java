@@ -0,0 +1,168 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.Like;
+import com.loopers.domain.like.LikeRepository;
+import com.loopers.domain.like.LikeStateRepository;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductLikeCountBuffer;
+import com.loopers.domain.product.ProductRankingRepository;
+import com.loopers.domain.product.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class ProductLikeCountReconcilerTest {
+
+    @Autowired
+    private ProductLikeCountReconciler reconciler;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> masterRedisTemplate;
+
+    @Autowired
+    private ProductLikeCountBuffer productLikeCountBuffer;
+
+    @Autowired
+    private ProductRankingRepository productRankingRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @AfterEach
+    void tearDown() {
+        likeRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("like 테이블과 다른 좋아요 수만 실제 좋아요 수로 보정한다.")
+    void reconcileChunk_correctsDriftedProducts() {
+        // given
+        Product drifted = productRepository.save(Product.from("상품1", "설명", BigDecimal.valueOf(1000), BigDecimal.valueOf(1500), "ON_SALE", 1L));
+        Product matched = productRepository.save(Product.from("상품2", "설명", BigDecimal.valueOf(1000), BigDecimal.valueOf(1500), "ON_SALE", 1L));
+        likeRepository.save(Like.from(1L, drifted.getId()));
+        likeRepository.save(Like.from(2L, drifted.getId()));
+        likeRepository.save(Like.from(1L, matched.getId()));
+        jdbcTemplate.update("UPDATE product SET like_count = 10 WHERE id = ?", drifted.getId());
+        jdbcTemplate.update("UPDATE product SET like_count = 1 WHERE id = ?", matched.getId());
+
+        long from = Math.min(drifted.getId(), matched.getId()) - 1;
+        long to = Math.max(drifted.getId(), matched.getId());
+
+        // when
+        int corrected = reconciler.reconcileChunk(from, to);
+
+        // then
+        assertThat(corrected).isEqualTo(1);
+        assertThat(likeCount(drifted.getId())).isEqualTo(2L);
+        assertThat(likeCount(matched.getId())).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT like_count FROM product_list_view WHERE product_id = ?", Long.class, drifted.getId())).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("like outbox에 아직 반영되지 않은 변경이 있는 상품은 보정하지 않는다.")
+    void reconcileChunk_skipsProductsWithUnrelayedLikes() {
+        // given
+        Product unrelayed = productRepository.save(Product.from("상품1", "설명", BigDecimal.valueOf(1000), BigDecimal.valueOf(1500), "ON_SALE", 1L));
+        Product drifted = productRepository.save(Product.from("상품2", "설명", BigDecimal.valueOf(1000), BigDecimal.valueOf(1500), "ON_SALE", 1L));
+        jdbcTemplate.update("UPDATE product SET like_count = 1 WHERE id IN (?, ?)", unrelayed.getId(), drifted.getId());
+
+        LikeStateRepository likeStateRepository = mock(LikeStateRepository.class);
+        when(likeStateRepository.findUnrelayedProductIds(anyInt())).thenReturn(Optional.of(Set.of(unrelayed.getId())));
+        ProductLikeCountReconciler redisReconciler = reconcilerWith(likeStateRepository);
+
+        long from = Math.min(unrelayed.getId(), drifted.getId()) - 1;
+        long to = Math.max(unrelayed.getId(), drifted.getId());
+
+        // when
+        int corrected = redisReconciler.reconcileChunk(from, to);
+
+        // then
+        assertThat(corrected).isEqualTo(1);
+        assertThat(likeCount(unrelayed.getId())).isEqualTo(1L);
+        assertThat(likeCount(drifted.getId())).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("좋아요 수를 읽는 사이 outbox 항목이 반영되어 사라진 상품도 보정하지 않는다.")
+    void reconcileChunk_skipsProductsRelayedDuringCount() {
+        // given
+        Product relayed = productRepository.save(Product.from("상품1", "설명", BigDecimal.valueOf(1000), BigDecimal.valueOf(1500), "ON_SALE", 1L));
+        jdbcTemplate.update("UPDATE product SET like_count = 1 WHERE id = ?", relayed.getId());
+
+        LikeStateRepository likeStateRepository = mock(LikeStateRepository.class);
+        when(likeStateRepository.findUnrelayedProductIds(anyInt()))
+                .thenReturn(Optional.of(Set.of(relayed.getId())))
+                .thenReturn(Optional.of(Set.of()));
+        ProductLikeCountReconciler redisReconciler = reconcilerWith(likeStateRepository);
+
+        // when
+        int corrected = redisReconciler.reconcileChunk(relayed.getId() - 1, relayed.getId());
+
+        // then
+        assertThat(corrected).isZero();
+        assertThat(likeCount(relayed.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("like outbox가 너무 많이 쌓여 있으면 구간 전체를 보정하지 않는다.")
+    void reconcileChunk_skipsChunk_whenOutboxBacklogged() {
+        // given
+        Product drifted = productRepository.save(Product.from("상품1", "설명", BigDecimal.valueOf(1000), BigDecimal.valueOf(1500), "ON_SALE", 1L));
+        jdbcTemplate.update("UPDATE product SET like_count = 3 WHERE id = ?", drifted.getId());
+
+        LikeStateRepository likeStateRepository = mock(LikeStateRepository.class);
+        when(likeStateRepository.findUnrelayedProductIds(anyInt())).thenReturn(Optional.empty());
+        ProductLikeCountReconciler redisReconciler = reconcilerWith(likeStateRepository);
+
+        // when
+        int corrected = redisReconciler.reconcileChunk(drifted.getId() - 1, drifted.getId());
+
+        // then
+        assertThat(corrected).isZero();
+        assertThat(likeCount(drifted.getId())).isEqualTo(3L);
+    }
+
+    private ProductLikeCountReconciler reconcilerWith(LikeStateRepository likeStateRepository) {
+        return new ProductLikeCountReconciler(jdbcTemplate, masterRedisTemplate, productLikeCountBuffer,
+                productRankingRepository, likeStateRepository, eventPublisher, transactionManager, new SimpleMeterRegistry(),
+                false, 1000, 1, 0L);
+    }
+
+    private long likeCount(Long productId) {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM product WHERE id = ?", Long.class, productId);
+    }
+}
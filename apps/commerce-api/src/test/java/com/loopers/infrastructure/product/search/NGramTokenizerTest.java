@@ -0,0 +1,42 @@
+package com.loopers.infrastructure.product.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NGramTokenizerTest {
+
+    private final NGramTokenizer tokenizer = new NGramTokenizer();
+
+    @Test
+    @DisplayName("단어마다 2글자씩 겹치게 자르고, 2글자 이하 단어는 그대로 토큰이 된다.")
+    void tokenize_bigram() {
+        // given & when & then
+        assertThat(tokenizer.tokenize("나이키 운동화 a"))
+                .containsExactly("나이", "이키", "운동", "동화", "a");
+    }
+
+    @Test
+    @DisplayName("대소문자와 전각 문자를 정규화하고 문자/숫자가 아닌 글자는 구분자로 처리한다.")
+    void tokenize_normalize() {
+        // given & when & then
+        assertThat(tokenizer.tokenize("NIKE-Ａｉｒ,  2025!"))
+                .containsExactly("ni", "ik", "ke", "ai", "ir", "20", "02", "25");
+    }
+
+    @Test
+    @DisplayName("띄어쓰기가 달라도 같은 bigram이 만들어진다.")
+    void tokenize_spacingInsensitive() {
+        // given & when & then
+        assertThat(tokenizer.tokenize("나이키운동화")).containsAll(tokenizer.tokenize("나이키 운동화"));
+    }
+
+    @Test
+    @DisplayName("null 또는 빈 문자열이면 빈 목록을 반환한다.")
+    void tokenize_blank() {
+        // given & when & then
+        assertThat(tokenizer.tokenize(null)).isEmpty();
+        assertThat(tokenizer.tokenize("  ")).isEmpty();
+    }
+}
@@ -0,0 +1,95 @@
+package com.loopers.infrastructure.product.search;
+
+import com.loopers.domain.product.ProductSearchResult;
+import com.loopers.domain.product.vo.ProductSortType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSearchIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 8, 1, 12, 0);
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex(new NGramTokenizer());
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 토큰을 포함하는 상품만 조회되고, 상품명에 포함된 상품이 설명에만 포함된 상품보다 앞선다.")
+    void search_ranksNameMatchFirst() {
+        // given
+        index.upsert(new ProductSearchDocument(1L, 1L, "가죽 지갑", "운동화와 잘 어울리는 지갑", 0L, NOW, null, null));
+        index.upsert(new ProductSearchDocument(2L, 1L, "러닝 운동화", "가벼운 러닝화", 0L, NOW, null, null));
+        index.upsert(new ProductSearchDocument(3L, 2L, "운동 가방", "헬스 가방", 0L, NOW, null, null));
+
+        // when
+        ProductSearchResult result = index.search("운동화", null, ProductSortType.LATEST, 0, 10);
+
+        // then
+        assertThat(result.productIds()).containsExactly(2L, 1L);
+        assertThat(result.totalCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("관련도가 같으면 요청한 정렬 타입 기준으로 정렬된다.")
+    void search_tieBreakBySortType() {
+        // given
+        index.upsert(new ProductSearchDocument(1L, 1L, "반팔 티셔츠", null, 10L, NOW.minusDays(2), BigDecimal.valueOf(15000), BigDecimal.valueOf(25)));
+        index.upsert(new ProductSearchDocument(2L, 1L, "반팔 티셔츠", null, 30L, NOW.minusDays(1), BigDecimal.valueOf(9000), BigDecimal.valueOf(40)));
+        index.upsert(new ProductSearchDocument(3L, 1L, "반팔 티셔츠", null, 20L, NOW, BigDecimal.valueOf(12000), BigDecimal.valueOf(10)));
+
+        // when
+        ProductSearchResult latest = index.search("티셔츠", null, ProductSortType.LATEST, 0, 10);
+        ProductSearchResult likeCount = index.search("티셔츠", null, ProductSortType.LIKE_COUNT, 0, 10);
+        ProductSearchResult priceAsc = index.search("티셔츠", null, ProductSortType.PRICE_ASC, 0, 10);
+        ProductSearchResult discountRate = index.search("티셔츠", null, ProductSortType.DISCOUNT_RATE, 0, 10);
+
+        // then
+        assertThat(latest.productIds()).containsExactly(3L, 2L, 1L);
+        assertThat(likeCount.productIds()).containsExactly(2L, 3L, 1L);
+        assertThat(priceAsc.productIds()).containsExactly(2L, 3L, 1L);
+        assertThat(discountRate.productIds()).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("브랜드 필터와 페이지(offset, size)가 적용되고 전체 건수는 필터 기준으로 계산된다.")
+    void search_brandFilterAndPaging() {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            index.upsert(new ProductSearchDocument(id, id % 2, "청바지", null, 0L, NOW, null, null));
+        }
+
+        // when
+        ProductSearchResult result = index.search("청바지", 1L, ProductSortType.LATEST, 1, 1);
+
+        // then
+        assertThat(result.productIds()).containsExactly(3L); // 브랜드1: 5, 3, 1
+        assertThat(result.totalCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("상품이 수정되면 이전 내용으로는 조회되지 않고, 삭제되면 결과에서 제외된다.")
+    void upsertAndRemove_updatesIndex() {
+        // given
+        index.upsert(new ProductSearchDocument(1L, 1L, "겨울 패딩", null, 0L, NOW, null, null));
+        index.upsert(new ProductSearchDocument(2L, 1L, "겨울 코트", null, 0L, NOW, null, null));
+
+        // when
+        index.upsert(new ProductSearchDocument(1L, 1L, "여름 반바지", null, 0L, NOW, null, null));
+        index.remove(2L);
+
+        // then
+        assertThat(index.search("패딩", null, ProductSortType.LATEST, 0, 10).productIds()).isEmpty();
+        assertThat(index.search("겨울", null, ProductSortType.LATEST, 0, 10).productIds()).isEmpty();
+        assertThat(index.search("반바지", null, ProductSortType.LATEST, 0, 10).productIds()).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,58 @@
+package com.loopers.infrastructure.product.trending;
+
+import com.loopers.domain.product.vo.TrendingWindow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WindowedLikeCounterTest {
+    private static final long MINUTE = Duration.ofMinutes(1).toMillis();
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+    private static final long DAY = Duration.ofDays(1).toMillis();
+    private static final long NOW = 100 * DAY;
+
+    @Test
+    @DisplayName("기간별로 범위 안에 있는 좋아요만 합산된다.")
+    void sum_countsOnlyWithinWindow() {
+        // given
+        WindowedLikeCounter counter = new WindowedLikeCounter();
+        counter.add(1L, NOW - 10 * MINUTE);
+        counter.add(1L, NOW - 2 * HOUR);
+        counter.add(1L, NOW - 3 * DAY);
+        counter.add(1L, NOW - 10 * DAY);    // 7일 이전
+
+        // when & then
+        assertThat(counter.sum(TrendingWindow.HOUR, NOW)).isEqualTo(1L);
+        assertThat(counter.sum(TrendingWindow.DAY, NOW)).isEqualTo(2L);
+        assertThat(counter.sum(TrendingWindow.WEEK, NOW)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 지나간 버킷이 비워지고 모두 지나면 비어 있는 카운터가 된다.")
+    void sum_expiresOldBuckets() {
+        // given
+        WindowedLikeCounter counter = new WindowedLikeCounter();
+        counter.add(3L, NOW);
+
+        // when & then
+        assertThat(counter.sum(TrendingWindow.HOUR, NOW + 61 * MINUTE)).isZero();
+        assertThat(counter.sum(TrendingWindow.DAY, NOW + 61 * MINUTE)).isEqualTo(3L);
+        assertThat(counter.sum(TrendingWindow.DAY, NOW + 25 * HOUR)).isZero();
+        assertThat(counter.isEmpty(NOW + 8 * DAY)).isTrue();
+    }
+
+    @Test
+    @DisplayName("좋아요 취소가 더 많아도 합계는 0 미만이 되지 않는다.")
+    void sum_neverNegative() {
+        // given
+        WindowedLikeCounter counter = new WindowedLikeCounter();
+        counter.add(-2L, NOW);
+        counter.add(1L, NOW);
+
+        // when & then
+        assertThat(counter.sum(TrendingWindow.HOUR, NOW)).isZero();
+    }
+}
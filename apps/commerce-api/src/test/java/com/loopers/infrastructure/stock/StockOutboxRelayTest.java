@@ -0,0 +1,111 @@
+package com.loopers.infrastructure.stock;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.stock.Stock;
+import com.loopers.domain.stock.StockRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class StockOutboxRelayTest {
+
+    @Autowired
+    private StockReservationRepositoryImpl stockReservationRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> masterRedisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private StockOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 프로필은 예약이 꺼져 있으므로 켜진 relay를 직접 생성
+        relay = new StockOutboxRelay(masterRedisTemplate, jdbcTemplate, transactionManager, true);
+        relay.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("확정/해제된 예약의 증감분을 stock 테이블에 반영하고 outbox에서 지운다.")
+    @Test
+    void relay_appliesConfirmedAndReleasedDeltas() {
+        // given
+        stockRepository.save(Stock.from(301L, 10));
+        stockReservationRepository.reserve("ORDER-O1", Map.of(301L, 3));
+        stockReservationRepository.confirm("ORDER-O1");
+        stockReservationRepository.reserve("ORDER-O2", Map.of(301L, 2));
+        stockReservationRepository.confirm("ORDER-O2");
+        stockReservationRepository.release("ORDER-O2");
+
+        // when
+        relay.relay();
+
+        // then
+        assertThat(quantity(301L)).isEqualTo(7);
+        assertThat(masterRedisTemplate.opsForStream().size(StockReservationRepositoryImpl.KEY_OUTBOX)).isZero();
+    }
+
+    @DisplayName("이미 반영한 항목을 다시 읽으면 (반영 후 ack 전 종료) 재고에 다시 반영하지 않는다.")
+    @Test
+    void relay_skipsAlreadyAppliedEntries() {
+        // given
+        stockRepository.save(Stock.from(302L, 10));
+        RecordId applied = masterRedisTemplate.opsForStream().add(StreamRecords.string(
+                Map.of("productId", "302", "delta", "-4")).withStreamKey(StockReservationRepositoryImpl.KEY_OUTBOX));
+        jdbcTemplate.update("UPDATE stock SET quantity = quantity - 4 WHERE ref_product_id = 302");
+        jdbcTemplate.update("INSERT INTO stock_outbox_applied (entry_id, applied_at) VALUES (?, ?)",
+                applied.getValue(), Timestamp.valueOf(LocalDateTime.now()));
+        masterRedisTemplate.opsForStream().add(StreamRecords.string(
+                Map.of("productId", "302", "delta", "-1")).withStreamKey(StockReservationRepositoryImpl.KEY_OUTBOX));
+
+        // when
+        relay.relay();
+        relay.relay();
+
+        // then
+        assertThat(quantity(302L)).isEqualTo(5);
+        assertThat(masterRedisTemplate.opsForStream().size(StockReservationRepositoryImpl.KEY_OUTBOX)).isZero();
+    }
+
+    private int quantity(Long productId) {
+        return jdbcTemplate.queryForObject("SELECT quantity FROM stock WHERE ref_product_id = ?", Integer.class, productId);
+    }
+}
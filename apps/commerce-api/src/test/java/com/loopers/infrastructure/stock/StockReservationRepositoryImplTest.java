@@ -0,0 +1,145 @@
+package com.loopers.infrastructure.stock;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.stock.Stock;
+import com.loopers.domain.stock.StockRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class StockReservationRepositoryImplTest {
+
+    @Autowired
+    private StockReservationRepositoryImpl stockReservationRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> masterRedisTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("예약하면 stock 테이블 값으로 채운 가용 재고에서 차감하고, 같은 예약을 반복해도 한 번만 차감한다.")
+    @Test
+    void reserve_decreasesAvailableOnce() {
+        // given
+        stockRepository.save(Stock.from(201L, 10));
+
+        // when
+        stockReservationRepository.reserve("ORDER-R1", Map.of(201L, 3));
+        stockReservationRepository.reserve("ORDER-R1", Map.of(201L, 3));
+
+        // then
+        assertThat(available(201L)).isEqualTo(7);
+        assertThat(state("ORDER-R1")).isEqualTo("held");
+    }
+
+    @DisplayName("하나라도 재고가 부족하면 어떤 상품도 차감하지 않는다.")
+    @Test
+    void reserve_failsWithoutDecreasing_whenAnyProductIsShort() {
+        // given
+        stockRepository.save(Stock.from(202L, 10));
+        stockRepository.save(Stock.from(203L, 1));
+
+        // when & then
+        assertThatThrownBy(() -> stockReservationRepository.reserve("ORDER-R2", Map.of(202L, 2, 203L, 2)))
+                .isInstanceOf(CoreException.class)
+                .hasFieldOrPropertyWithValue("errorType", ErrorType.BAD_REQUEST);
+        assertThat(available(202L)).isEqualTo(10);
+        assertThat(available(203L)).isEqualTo(1);
+        assertThat(masterRedisTemplate.hasKey("stock:reservation:ORDER-R2")).isFalse();
+    }
+
+    @DisplayName("확정하면 차감분을 outbox에 한 번만 기록한다.")
+    @Test
+    void confirm_writesOutboxOnce() {
+        // given
+        stockRepository.save(Stock.from(204L, 10));
+        stockReservationRepository.reserve("ORDER-R3", Map.of(204L, 4));
+
+        // when
+        stockReservationRepository.confirm("ORDER-R3");
+        stockReservationRepository.confirm("ORDER-R3");
+
+        // then
+        assertThat(state("ORDER-R3")).isEqualTo("confirmed");
+        assertThat(outboxSize()).isEqualTo(1L);
+        assertThat(available(204L)).isEqualTo(6);
+    }
+
+    @DisplayName("확정 전 해제는 가용 재고만 되돌리고, 확정 후 해제는 stock 테이블에도 되돌리도록 outbox에 기록한다.")
+    @Test
+    void release_restoresAvailable() {
+        // given
+        stockRepository.save(Stock.from(205L, 10));
+        stockReservationRepository.reserve("ORDER-R4", Map.of(205L, 2));
+        stockReservationRepository.reserve("ORDER-R5", Map.of(205L, 3));
+        stockReservationRepository.confirm("ORDER-R5");
+
+        // when
+        stockReservationRepository.release("ORDER-R4");
+        stockReservationRepository.release("ORDER-R5");
+        stockReservationRepository.release("ORDER-R5");
+
+        // then
+        assertThat(available(205L)).isEqualTo(10);
+        assertThat(state("ORDER-R4")).isEqualTo("released");
+        assertThat(outboxSize()).isEqualTo(2L); // 확정 -3, 해제 +3
+    }
+
+    @DisplayName("해제된 예약 id로 다시 예약하면 재고를 새로 차감한다.")
+    @Test
+    void reserve_decreasesAgain_afterRelease() {
+        // given
+        stockRepository.save(Stock.from(206L, 10));
+        stockReservationRepository.reserve("ORDER-R6", Map.of(206L, 3));
+        stockReservationRepository.release("ORDER-R6");
+
+        // when
+        stockReservationRepository.reserve("ORDER-R6", Map.of(206L, 3));
+        stockReservationRepository.confirm("ORDER-R6");
+
+        // then
+        assertThat(available(206L)).isEqualTo(7);
+        assertThat(state("ORDER-R6")).isEqualTo("confirmed");
+        assertThat(outboxSize()).isEqualTo(1L);
+    }
+
+    private int available(Long productId) {
+        return Integer.parseInt(masterRedisTemplate.opsForValue().get("stock:available:" + productId));
+    }
+
+    private Object state(String reservationId) {
+        return masterRedisTemplate.opsForHash().get("stock:reservation:" + reservationId, "_state");
+    }
+
+    private Long outboxSize() {
+        return masterRedisTemplate.opsForStream().size(StockReservationRepositoryImpl.KEY_OUTBOX);
+    }
+}
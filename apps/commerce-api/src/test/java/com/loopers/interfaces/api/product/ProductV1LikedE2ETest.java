@@ -0,0 +1,124 @@
+package com.loopers.interfaces.api.product;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.user.User;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.infrastructure.user.UserJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Redis 좋아요 경로에서 방금 누른 좋아요가 목록 응답의 liked에 바로 보이는지 확인
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "like.redis.enabled=true")
+class ProductV1LikedE2ETest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private Brand testBrand;
+    private User testUser;
+    private Product likedProduct, otherProduct;
+
+    @BeforeEach
+    void setUp() {
+        testBrand = brandJpaRepository.save(Brand.from("테스트브랜드", "테스트 브랜드 설명"));
+        testUser = userJpaRepository.save(User.from("user1", "user1@test.com", "1990-01-01", "M"));
+        likedProduct = productJpaRepository.save(
+                Product.from("상품1", "설명1", BigDecimal.valueOf(10000), BigDecimal.valueOf(18000), "ON_SALE", testBrand.getId()));
+        otherProduct = productJpaRepository.save(
+                Product.from("상품2", "설명2", BigDecimal.valueOf(20000), BigDecimal.valueOf(28000), "ON_SALE", testBrand.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 좋아요 직후 목록에서 좋아요한 상품만 liked가 true")
+    void getProducts_likedFlag_afterLike() throws Exception {
+        // given
+        mockMvc.perform(post("/api/v1/like/products")
+                        .header("X-USER-ID", testUser.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refProductId\": " + likedProduct.getId() + "}"))
+                .andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(get("/api/v1/products")
+                        .param("brandId", testBrand.getId().toString())
+                        .param("sortType", "LATEST")
+                        .header("X-USER-ID", testUser.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.content[0].productName").value("상품2"))
+                .andExpect(jsonPath("$.data.content[0].liked").value(false))
+                .andExpect(jsonPath("$.data.content[1].productName").value("상품1"))
+                .andExpect(jsonPath("$.data.content[1].liked").value(true));
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 좋아요 취소 직후 목록에서 liked가 false")
+    void getProducts_likedFlag_afterUnlike() throws Exception {
+        // given
+        String body = "{\"refProductId\": " + likedProduct.getId() + "}";
+        mockMvc.perform(post("/api/v1/like/products")
+                        .header("X-USER-ID", testUser.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/like/products")
+                        .header("X-USER-ID", testUser.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(get("/api/v1/products")
+                        .param("brandId", testBrand.getId().toString())
+                        .param("sortType", "LATEST")
+                        .header("X-USER-ID", testUser.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].liked").value(false))
+                .andExpect(jsonPath("$.data.content[1].liked").value(false));
+    }
+}
@@ -0,0 +1,68 @@
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+// 장바구니/위시리스트 화면처럼 여러 상품 상세를 한 번에 조회하는 경우
+// batch: GET /api/v1/products/details?productIds=... 1회
+// single: GET /api/v1/products/{productId} N회
+const ITEM_COUNT = 20;
+
+export const options = {
+    scenarios: {
+        batch: {
+            executor: 'constant-vus',
+            vus: 30,
+            duration: '1m',
+            exec: 'batchDetails',
+        },
+        single: {
+            executor: 'constant-vus',
+            vus: 30,
+            duration: '1m',
+            startTime: '1m10s',
+            exec: 'singleDetails',
+        },
+    },
+    summaryTrendStats: ['avg', 'min', 'med', 'max', 'p(90)', 'p(95)', 'p(99)', 'p(99.9)'],
+};
+
+const baseUrl = 'http://localhost:8080';
+const headers = {
+    'X-USER-ID': '1'
+};
+
+// 1-100000 사이 랜덤 ID
+function randomProductIds() {
+    const ids = [];
+    for (let i = 0; i < ITEM_COUNT; i++) {
+        ids.push(Math.floor(Math.random() * 100000) + 1);
+    }
+    return ids;
+}
+
+export function batchDetails() {
+    const ids = randomProductIds();
+    const response = http.get(`${baseUrl}/api/v1/products/details?productIds=${ids.join(',')}`, {
+        headers,
+        tags: { name: 'batch' },
+    });
+
+    check(response, {
+        'status is 200': (r) => r.status === 200
+    });
+
+    sleep(1);
+}
+
+export function singleDetails() {
+    const ids = randomProductIds();
+    const responses = http.batch(ids.map((id) => ['GET', `${baseUrl}/api/v1/products/${id}`, null, {
+        headers,
+        tags: { name: 'single' },
+    }]));
+
+    responses.forEach((response) => check(response, {
+        'status is 200': (r) => r.status === 200
+    }));
+
+    sleep(1);
+}